@@ -0,0 +1,164 @@
+package de.scryfall;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * BulkCardReader reads the cards of a bulk data file one at a time. The cards
+ * are bound directly from the JSON tokens, so files of any size are read in
+ * constant memory. Files that are still gzip-compressed are
+ * decompressed on the fly.
+ *
+ * @see https://scryfall.com/docs/api/bulk-data
+ * @author QUE
+ *
+ */
+class BulkCardReader implements Iterator<MtgCardInformation>, Closeable {
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final JsonReader jsonReader;
+	private final JsonBinder jsonBinder;
+	private final boolean lazy;
+	private boolean started;
+	private boolean finished;
+	private MtgCardInformation pending;
+
+	BulkCardReader(Path file) throws IOException {
+		this(file, false);
+	}
+
+	/**
+	 * @param file bulk data file of cards
+	 * @param lazy {@code true} to read {@link LazyMtgCardInformation} cards
+	 * @throws IOException
+	 */
+	BulkCardReader(Path file, boolean lazy) throws IOException {
+		this(new InputStreamReader(open(file), StandardCharsets.UTF_8), lazy);
+	}
+
+	/**
+	 * @param reader positioned at the start of a JSON array of cards
+	 * @param lazy   {@code true} to read {@link LazyMtgCardInformation} cards
+	 */
+	BulkCardReader(Reader reader, boolean lazy) {
+		this.jsonReader = new JsonReader(reader);
+		this.jsonBinder = new JsonBinder(jsonReader);
+		this.lazy = lazy;
+	}
+
+	/**
+	 * @return {@code true} if the file starts with the gzip magic number
+	 * @throws IOException
+	 */
+	private static boolean isGzip(InputStream in) throws IOException {
+		in.mark(2);
+		try {
+			return in.read() == 0x1f && in.read() == 0x8b;
+		} finally {
+			in.reset();
+		}
+	}
+
+	private static InputStream open(Path file) throws IOException {
+		InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+		try {
+			if (isGzip(in)) {
+				in = new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+			}
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+		return in;
+	}
+
+	/**
+	 * The checked counterpart of {@link #next()}. Cards that fail to decode are
+	 * skipped and reported to {@link Scryfall#getDecodeErrors()}.
+	 *
+	 * @return {@code MtgCardInformation card} or {@code null} if the end of the
+	 *         file has been reached
+	 * @throws IOException
+	 */
+	MtgCardInformation nextCard() throws IOException {
+		if (pending != null) {
+			MtgCardInformation card = pending;
+			pending = null;
+			return card;
+		}
+		while (advance()) {
+			try {
+				if (lazy) {
+					return new LazyMtgCardInformation(jsonBinder.readRaw().getBytes(StandardCharsets.UTF_8));
+				}
+				MtgCardInformation card = jsonBinder.readCardIsolated();
+				if (card != null) {
+					return card;
+				}
+			} catch (IllegalStateException e) {
+				throw new IOException("Malformed bulk data file", e);
+			}
+		}
+		return null;
+	}
+
+	private boolean advance() throws IOException {
+		if (finished) {
+			return false;
+		}
+		if (!started) {
+			jsonReader.beginArray();
+			started = true;
+		}
+		if (jsonReader.hasNext()) {
+			return true;
+		}
+		jsonReader.endArray();
+		finished = true;
+		return false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			if (pending == null) {
+				pending = nextCard();
+			}
+			return pending != null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public MtgCardInformation next() {
+		try {
+			MtgCardInformation card = nextCard();
+			if (card == null) {
+				throw new NoSuchElementException();
+			}
+			return card;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		finished = true;
+		jsonReader.close();
+	}
+}
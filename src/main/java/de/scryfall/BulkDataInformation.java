@@ -0,0 +1,100 @@
+package de.scryfall;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.google.gson.JsonObject;
+
+import de.scryfall.enums.BulkDataType;
+
+/**
+ * BulkDataInformation describes one of the files in which Scryfall publishes
+ * its whole card database. The files are updated every 12 hours and are the
+ * recommended way to obtain large amounts of cards.
+ * 
+ * @see https://scryfall.com/docs/api/bulk-data
+ * @author QUE
+ *
+ */
+public class BulkDataInformation {
+	private String jsonString;
+	private String id;
+	private BulkDataType type;
+	private String name;
+	private String description;
+	private ZonedDateTime updatedAt;
+	private long size;
+	private String contentType;
+	private String contentEncoding;
+	private String selfApiUrl;
+	private String downloadUrl;
+
+	public BulkDataInformation(JsonObject jObject) {
+		this.jsonString = jObject.toString();
+		this.id = JsonIO.parseString(jObject, "id");
+		String type = JsonIO.parseString(jObject, "type");
+		this.type = type != null ? BulkDataType.parseId(type) : null;
+		this.name = JsonIO.parseString(jObject, "name");
+		this.description = JsonIO.parseString(jObject, "description");
+		this.updatedAt = JsonIO.parseZonedDateTime(jObject, "updated_at", DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+		this.size = jObject.has("size") ? JsonIO.parseLong(jObject, "size")
+				: JsonIO.parseLong(jObject, "compressed_size");
+		this.contentType = JsonIO.parseString(jObject, "content_type");
+		this.contentEncoding = JsonIO.parseString(jObject, "content_encoding");
+		this.selfApiUrl = JsonIO.parseString(jObject, "uri");
+		this.downloadUrl = JsonIO.parseString(jObject, "download_uri");
+	}
+
+	public String getContentEncoding() {
+		return contentEncoding;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getDownloadUrl() {
+		return downloadUrl;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getJsonString() {
+		return jsonString;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getSelfApiUrl() {
+		return selfApiUrl;
+	}
+
+	/**
+	 * @return size of the file in bytes or {@code 0} if unknown
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	public BulkDataType getType() {
+		return type;
+	}
+
+	public ZonedDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	@Override
+	public String toString() {
+		return "BulkDataInformation [id=" + id + ", type=" + type + ", name=" + name + ", updatedAt=" + updatedAt
+				+ ", size=" + size + ", downloadUrl=" + downloadUrl + "]";
+	}
+}
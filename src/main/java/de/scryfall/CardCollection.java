@@ -0,0 +1,45 @@
+package de.scryfall;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CardCollection is the result of a batch lookup. It maps every identifier
+ * that could be resolved to its card and lists the ones Scryfall could not
+ * find.
+ *
+ * @see https://scryfall.com/docs/api/cards/collection
+ * @author QUE
+ *
+ */
+public class CardCollection {
+	private final Map<CardIdentifier, MtgCardInformation> mapCards;
+	private final List<CardIdentifier> listNotFound;
+
+	CardCollection(Map<CardIdentifier, MtgCardInformation> mapCards, List<CardIdentifier> listNotFound) {
+		this.mapCards = Collections.unmodifiableMap(mapCards);
+		this.listNotFound = Collections.unmodifiableList(listNotFound);
+	}
+
+	/**
+	 * @return {@code Map<CardIdentifier, MtgCardInformation> mapCards} in the
+	 *         order the identifiers were requested
+	 */
+	public Map<CardIdentifier, MtgCardInformation> getMapCards() {
+		return mapCards;
+	}
+
+	public List<CardIdentifier> getListNotFound() {
+		return listNotFound;
+	}
+
+	public MtgCardInformation get(CardIdentifier cardIdentifier) {
+		return mapCards.get(cardIdentifier);
+	}
+
+	@Override
+	public String toString() {
+		return "CardCollection [mapCards=" + mapCards + ", listNotFound=" + listNotFound + "]";
+	}
+}
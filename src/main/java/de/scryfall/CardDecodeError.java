@@ -0,0 +1,79 @@
+package de.scryfall;
+
+/**
+ * CardDecodeError describes a card, or a part of a card, that could not be
+ * decoded. A card that could not be decoded at all has been skipped; a card
+ * with a failed field has been decoded without that field.
+ *
+ * @see DecodeErrors
+ * @author QUE
+ *
+ */
+public class CardDecodeError {
+	private final String cardId;
+	private final String cardName;
+	private final String fieldName;
+	private final String jsonPath;
+	private final RuntimeException cause;
+
+	CardDecodeError(String cardId, String cardName, String fieldName, String jsonPath, RuntimeException cause) {
+		this.cardId = cardId;
+		this.cardName = cardName;
+		this.fieldName = fieldName;
+		this.jsonPath = jsonPath;
+		this.cause = cause;
+	}
+
+	/**
+	 * @return {@code String cardId} or {@code null} if it was not decoded
+	 *         before the failure
+	 */
+	public String getCardId() {
+		return cardId;
+	}
+
+	/**
+	 * @return {@code String cardName} or {@code null} if it was not decoded
+	 *         before the failure
+	 */
+	public String getCardName() {
+		return cardName;
+	}
+
+	/**
+	 * @return {@code String fieldName} of the failed field, e.g.
+	 *         {@code card_faces[1]}, or {@code null} if the card was skipped
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * @return {@code String jsonPath} of the failed value in the document it
+	 *         was read from, e.g. {@code $[1042].card_faces[1].name}, or
+	 *         {@code null} if it was decoded from a tree
+	 */
+	public String getJsonPath() {
+		return jsonPath;
+	}
+
+	public RuntimeException getCause() {
+		return cause;
+	}
+
+	/**
+	 * @return {@code true} if the whole card was skipped
+	 */
+	public boolean isSkipped() {
+		return fieldName == null;
+	}
+
+	@Override
+	public String toString() {
+		return "CardDecodeError [" + (cardId != null ? "cardId=" + cardId + ", " : "")
+				+ (cardName != null ? "cardName=" + cardName + ", " : "")
+				+ (fieldName != null ? "fieldName=" + fieldName + ", " : "")
+				+ (jsonPath != null ? "jsonPath=" + jsonPath + ", " : "") + (cause != null ? "cause=" + cause : "")
+				+ "]";
+	}
+}
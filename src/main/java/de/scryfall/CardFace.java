@@ -1,7 +1,7 @@
 package de.scryfall;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,7 +18,7 @@ import de.scryfall.enums.Symbol;
  * @author QUE
  *
  */
-public class CardFace {
+public class CardFace implements Cloneable {
 	private String artist;
 	private List<Symbol> listColorIndicators;
 	private List<Symbol> listColors;
@@ -38,33 +38,57 @@ public class CardFace {
 	private String watermark;
 
 	public CardFace(JsonObject jObject) {
-		this.artist = JsonIO.parseString(jObject, "artist");
+		this.artist = JsonIO.parsePooledString(jObject, "artist");
 		this.listColorIndicators = new ArrayList<>();
-		for (JsonElement jElement : jObject.get("color_indicator").getAsJsonArray()) {
-			listColorIndicators.add(Symbol.parseId(jElement.getAsString()));
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "color_indicator")) {
+			listColorIndicators.add(Symbol.parseId(JsonIO.toString(jElement)));
 		}
 		this.listColors = new ArrayList<>();
-		for (JsonElement jElement : jObject.get("colors").getAsJsonArray()) {
-			listColors.add(Symbol.parseId(jElement.getAsString()));
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "colors")) {
+			listColors.add(Symbol.parseId(JsonIO.toString(jElement)));
 		}
 		this.flavorText = JsonIO.parseString(jObject, "flavor_text");
-		this.illustrationId = JsonIO.parseString(jObject, "illustration_id");
-		this.mapImageUrls = new HashMap<>();
-		for (String key : jObject.get("image_uris").getAsJsonObject().keySet()) {
-			mapImageUrls.put(ImageType.parseId(key),
-					JsonIO.parseString(jObject.get("image_uris").getAsJsonObject(), key));
+		this.illustrationId = JsonIO.parsePooledString(jObject, "illustration_id");
+		this.mapImageUrls = new EnumMap<>(ImageType.class);
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "image_uris")) {
+			ImageType imageType = ImageType.parseId(entry.getKey());
+			if (imageType != ImageType.UNKNOWN) {
+				mapImageUrls.put(imageType, JsonIO.toString(entry.getValue()));
+			}
 		}
-		this.loyalty = JsonIO.parseString(jObject, "loyalty");
-		this.mana_cost = JsonIO.parseString(jObject, "mana_cost");
-		this.name = JsonIO.parseString(jObject, "name");
-		this.oracleText = JsonIO.parseString(jObject, "oracle_text");
-		this.power = JsonIO.parseString(jObject, "power");
+		this.loyalty = JsonIO.parsePooledString(jObject, "loyalty");
+		this.mana_cost = JsonIO.parsePooledString(jObject, "mana_cost");
+		this.name = JsonIO.parsePooledString(jObject, "name");
+		this.oracleText = JsonIO.parsePooledString(jObject, "oracle_text");
+		this.power = JsonIO.parsePooledString(jObject, "power");
 		this.printedName = JsonIO.parseString(jObject, "printed_name");
 		this.printedText = JsonIO.parseString(jObject, "printed_text");
 		this.printedTypeLine = JsonIO.parseString(jObject, "printed_type_line");
-		this.toughness = JsonIO.parseString(jObject, "toughness");
-		this.typeLine = JsonIO.parseString(jObject, "type_line");
-		this.watermark = JsonIO.parseString(jObject, "watermark");
+		this.toughness = JsonIO.parsePooledString(jObject, "toughness");
+		this.typeLine = JsonIO.parsePooledString(jObject, "type_line");
+		this.watermark = JsonIO.parsePooledString(jObject, "watermark");
+	}
+
+	/**
+	 * Creates an empty face to be filled by {@link JsonBinder}.
+	 */
+	CardFace() {
+	}
+
+	/**
+	 * @see MtgCardInformation#copy()
+	 */
+	CardFace copy() {
+		CardFace copy;
+		try {
+			copy = (CardFace) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+		copy.listColorIndicators = listColorIndicators == null ? null : new ArrayList<>(listColorIndicators);
+		copy.listColors = listColors == null ? null : new ArrayList<>(listColors);
+		copy.mapImageUrls = MtgCardInformation.copyOf(mapImageUrls, ImageType.class);
+		return copy;
 	}
 
 	public CardFace(String artist, List<Symbol> listColorIndicators, List<Symbol> listColors, String flavorText,
@@ -0,0 +1,174 @@
+package de.scryfall;
+
+import java.util.Objects;
+
+import com.google.gson.JsonObject;
+
+/**
+ * CardIdentifier describes a single card to look up with
+ * {@link Scryfall#getCardCollection(java.util.Collection)}. Instances are
+ * created through the static factory methods, one for each identifier
+ * combination the collection endpoint accepts.
+ *
+ * @see https://scryfall.com/docs/api/cards/collection
+ * @author QUE
+ *
+ */
+public class CardIdentifier {
+	private final String id;
+	private final int multiverseId;
+	private final int mtgoId;
+	private final String name;
+	private final String setCode;
+	private final String collectorNumber;
+
+	private CardIdentifier(String id, int multiverseId, int mtgoId, String name, String setCode,
+			String collectorNumber) {
+		this.id = id;
+		this.multiverseId = multiverseId;
+		this.mtgoId = mtgoId;
+		this.name = name;
+		this.setCode = setCode;
+		this.collectorNumber = collectorNumber;
+	}
+
+	public static CardIdentifier byId(String id) {
+		return new CardIdentifier(Objects.requireNonNull(id, "id"), 0, 0, null, null, null);
+	}
+
+	/**
+	 * @param multiverseId
+	 * @return {@code CardIdentifier identifier}
+	 * @throws IllegalArgumentException if the id is not positive
+	 */
+	public static CardIdentifier byMultiverseId(int multiverseId) {
+		if (multiverseId <= 0) {
+			throw new IllegalArgumentException("multiverseId must be positive: " + multiverseId);
+		}
+		return new CardIdentifier(null, multiverseId, 0, null, null, null);
+	}
+
+	/**
+	 * @param mtgoId
+	 * @return {@code CardIdentifier identifier}
+	 * @throws IllegalArgumentException if the id is not positive
+	 */
+	public static CardIdentifier byMtgoId(int mtgoId) {
+		if (mtgoId <= 0) {
+			throw new IllegalArgumentException("mtgoId must be positive: " + mtgoId);
+		}
+		return new CardIdentifier(null, 0, mtgoId, null, null, null);
+	}
+
+	public static CardIdentifier byName(String name) {
+		return new CardIdentifier(null, 0, 0, Objects.requireNonNull(name, "name"), null, null);
+	}
+
+	public static CardIdentifier byNameAndSet(String name, String setCode) {
+		return new CardIdentifier(null, 0, 0, Objects.requireNonNull(name, "name"),
+				Objects.requireNonNull(setCode, "setCode"), null);
+	}
+
+	public static CardIdentifier bySetAndCollectorNumber(String setCode, String collectorNumber) {
+		return new CardIdentifier(null, 0, 0, null, Objects.requireNonNull(setCode, "setCode"),
+				Objects.requireNonNull(collectorNumber, "collectorNumber"));
+	}
+
+	JsonObject toJson() {
+		JsonObject jObject = new JsonObject();
+		if (id != null) {
+			jObject.addProperty("id", id);
+		} else if (multiverseId != 0) {
+			jObject.addProperty("multiverse_id", multiverseId);
+		} else if (mtgoId != 0) {
+			jObject.addProperty("mtgo_id", mtgoId);
+		} else if (collectorNumber != null) {
+			jObject.addProperty("set", setCode);
+			jObject.addProperty("collector_number", collectorNumber);
+		} else {
+			jObject.addProperty("name", name);
+			if (setCode != null) {
+				jObject.addProperty("set", setCode);
+			}
+		}
+		return jObject;
+	}
+
+	/**
+	 * @param card
+	 * @return {@code true} if the card is the one this identifier describes
+	 */
+	boolean matches(MtgCardInformation card) {
+		if (id != null) {
+			return id.equals(card.getId());
+		} else if (multiverseId != 0) {
+			return card.getListMultiverseIds() != null && card.getListMultiverseIds().contains(multiverseId);
+		} else if (mtgoId != 0) {
+			return mtgoId == card.getMtgoId() || mtgoId == card.getMtgoFoilId();
+		} else if (collectorNumber != null) {
+			return setCode.equalsIgnoreCase(card.getSetCode()) && collectorNumber.equals(card.getCollectorNumber());
+		}
+		if (setCode != null && !setCode.equalsIgnoreCase(card.getSetCode())) {
+			return false;
+		}
+		if (name.equalsIgnoreCase(card.getName())) {
+			return true;
+		}
+		if (card.getListCardFaces() != null) {
+			for (CardFace cardFace : card.getListCardFaces()) {
+				if (name.equalsIgnoreCase(cardFace.getName())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public int getMultiverseId() {
+		return multiverseId;
+	}
+
+	public int getMtgoId() {
+		return mtgoId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getSetCode() {
+		return setCode;
+	}
+
+	public String getCollectorNumber() {
+		return collectorNumber;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		CardIdentifier other = (CardIdentifier) obj;
+		return Objects.equals(id, other.id) && multiverseId == other.multiverseId && mtgoId == other.mtgoId
+				&& Objects.equals(name, other.name) && Objects.equals(setCode, other.setCode)
+				&& Objects.equals(collectorNumber, other.collectorNumber);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, multiverseId, mtgoId, name, setCode, collectorNumber);
+	}
+
+	@Override
+	public String toString() {
+		return "CardIdentifier " + toJson();
+	}
+}
@@ -0,0 +1,154 @@
+package de.scryfall;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * CardIterator walks the cards of a paginated list object. Pages are requested
+ * only as the consumer advances, so no more than the current page and the
+ * prefetched ones are held in memory at any time.
+ * <p>
+ * If a page can not be fetched, the failure is reported by
+ * {@link #hasNext()}; as long as no prefetching is used, calling it again
+ * retries the same page. Either way {@link #getFailedPage()} tells where to
+ * resume.
+ *
+ * @see https://scryfall.com/docs/api/lists
+ * @author QUE
+ *
+ */
+class CardIterator implements Iterator<MtgCardInformation>, Closeable {
+	private final PagePrefetcher pagePrefetcher;
+	private String nextPage;
+	private List<MtgCardInformation> listCards;
+	private int index;
+	/**
+	 * Card decoded by {@link #hasNext()} ahead of {@link #next()}.
+	 */
+	private MtgCardInformation pending;
+
+	/**
+	 * @param firstPage url of the first page
+	 * @param prefetch  number of pages to request ahead of the consumer,
+	 *                  {@code 0} to request each page only when it is needed
+	 */
+	CardIterator(String firstPage, int prefetch) {
+		if (prefetch > 0) {
+			this.pagePrefetcher = new PagePrefetcher(firstPage, prefetch, Scryfall::requestPageAsync);
+		} else {
+			this.pagePrefetcher = null;
+			this.nextPage = firstPage;
+		}
+	}
+
+	private CardPage fetchPage() throws IOException, InterruptedException {
+		if (pagePrefetcher != null) {
+			return pagePrefetcher.next();
+		}
+		if (nextPage == null) {
+			return null;
+		}
+		CardPage cardPage = Scryfall.requestPage(nextPage);
+		nextPage = cardPage.getNextPage();
+		return cardPage;
+	}
+
+	private boolean advance() throws IOException, InterruptedException {
+		while (listCards == null || index >= listCards.size()) {
+			listCards = null;
+			CardPage cardPage = fetchPage();
+			if (cardPage == null) {
+				return false;
+			}
+			listCards = cardPage.getListCards();
+			index = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * Tells without requesting anything whether all cards have been consumed.
+	 * Only sequential iteration can tell before the next page is requested;
+	 * with prefetching this returns {@code false} until the end is reached.
+	 *
+	 * @return {@code true} if there are no more cards
+	 */
+	boolean isExhausted() {
+		return pending == null && pagePrefetcher == null && nextPage == null
+				&& (listCards == null || index >= listCards.size());
+	}
+
+	/**
+	 * @return url of the page that could not be fetched or {@code null} if no
+	 *         request has failed
+	 */
+	String getFailedPage() {
+		if (pagePrefetcher != null) {
+			return pagePrefetcher.getFailedPage();
+		}
+		return listCards == null ? nextPage : null;
+	}
+
+	/**
+	 * The checked counterpart of {@link #next()}. Cards that can not be decoded
+	 * are skipped and reported to {@link Scryfall#getDecodeErrors()}.
+	 *
+	 * @return {@code MtgCardInformation card} or {@code null} if all pages have
+	 *         been consumed
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	MtgCardInformation nextCard() throws IOException, InterruptedException {
+		MtgCardInformation card = pending;
+		pending = null;
+		if (card == null && advance()) {
+			card = listCards.get(index++);
+		}
+		return card;
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			if (pending == null) {
+				pending = nextCard();
+			}
+			return pending != null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException interruptedIOException = new InterruptedIOException(
+					"Interrupted while waiting for the next page");
+			interruptedIOException.initCause(e);
+			throw new UncheckedIOException(interruptedIOException);
+		}
+	}
+
+	@Override
+	public MtgCardInformation next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		MtgCardInformation card = pending;
+		pending = null;
+		return card;
+	}
+
+	/**
+	 * Stops requesting further pages.
+	 */
+	@Override
+	public void close() {
+		if (pagePrefetcher != null) {
+			pagePrefetcher.close();
+		}
+		nextPage = null;
+		listCards = null;
+	}
+}
@@ -0,0 +1,56 @@
+package de.scryfall;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CardPage is a single page of a paginated list of cards. Its cards are
+ * decoded straight from the response by {@link JsonBinder#readCardPage()}, so
+ * the JSON they keep is taken from the tokens of the response.
+ *
+ * @see https://scryfall.com/docs/api/lists
+ * @author QUE
+ *
+ */
+class CardPage {
+	private final List<MtgCardInformation> listCards;
+	private final boolean hasMore;
+	private final String nextPage;
+
+	/**
+	 * @param listCards cards that could be decoded
+	 * @param hasMore   whether further pages follow
+	 * @param nextPage  url of the next page, {@code null} if there is none
+	 */
+	CardPage(List<MtgCardInformation> listCards, boolean hasMore, String nextPage) {
+		this.listCards = listCards;
+		this.hasMore = hasMore;
+		this.nextPage = hasMore ? nextPage : null;
+	}
+
+	/**
+	 * @return the same page with copies of its cards
+	 */
+	CardPage copy() {
+		List<MtgCardInformation> listCopies = new ArrayList<>(listCards.size());
+		for (MtgCardInformation card : listCards) {
+			listCopies.add(card.copy());
+		}
+		return new CardPage(listCopies, hasMore, nextPage);
+	}
+
+	List<MtgCardInformation> getListCards() {
+		return listCards;
+	}
+
+	boolean hasMore() {
+		return hasMore;
+	}
+
+	/**
+	 * @return url of the next page or {@code null} if there are no more pages
+	 */
+	String getNextPage() {
+		return nextPage;
+	}
+}
@@ -0,0 +1,202 @@
+package de.scryfall;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CardPublisher emits the cards of a paginated list object to reactive
+ * subscribers. Every subscription walks the pages on its own and requests a
+ * page only once the subscriber has signalled demand for the cards on it, so
+ * a slow subscriber holds back the page fetches instead of filling a buffer.
+ *
+ * @see https://scryfall.com/docs/api/lists
+ * @author QUE
+ *
+ */
+class CardPublisher implements Flow.Publisher<MtgCardInformation> {
+	private final String firstPage;
+	private final Executor executor;
+
+	/**
+	 * @param firstPage url of the first page
+	 * @param executor  runs the signals to the subscriber
+	 */
+	CardPublisher(String firstPage, Executor executor) {
+		this.firstPage = firstPage;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super MtgCardInformation> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber");
+		CardSubscription subscription = new CardSubscription(subscriber, firstPage, executor);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * Serializes all signals to the subscriber through a work-in-progress
+	 * counter, so at most one thread drains the subscription at a time. Pages
+	 * are requested asynchronously; draining stops while a page is in flight
+	 * and is scheduled again once it has arrived, so no executor thread waits
+	 * for the network.
+	 */
+	private static class CardSubscription implements Flow.Subscription, Runnable {
+		private static final Logger LOGGER = LoggerFactory.getLogger("CardPublisher");
+
+		private final Flow.Subscriber<? super MtgCardInformation> subscriber;
+		private final Executor executor;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile IllegalArgumentException invalidRequest;
+		private volatile CompletableFuture<CardPage> pageFuture;
+		private String nextPage;
+		private List<MtgCardInformation> listCards;
+		private int index;
+		private boolean done;
+
+		CardSubscription(Flow.Subscriber<? super MtgCardInformation> subscriber, String firstPage,
+				Executor executor) {
+			this.subscriber = subscriber;
+			this.nextPage = firstPage;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("non-positive subscription request: " + n);
+			} else {
+				requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if (wip.getAndIncrement() == 0) {
+				try {
+					executor.execute(this);
+				} catch (RejectedExecutionException e) {
+					cancelled = true;
+					wip.set(0);
+					terminate();
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			int missed = 1;
+			do {
+				drain();
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void drain() {
+			if (done) {
+				return;
+			}
+			if (cancelled) {
+				terminate();
+				return;
+			}
+			if (invalidRequest != null) {
+				terminate();
+				subscriber.onError(invalidRequest);
+				return;
+			}
+			while (requested.get() > 0 && !cancelled) {
+				while (listCards == null || index >= listCards.size()) {
+					if (!advance()) {
+						return;
+					}
+				}
+				MtgCardInformation card = listCards.get(index++);
+				try {
+					subscriber.onNext(card);
+				} catch (Throwable t) {
+					// the subscriber broke the protocol, it gets no further signals
+					LOGGER.warn("Subscriber threw from onNext, cancelling the subscription", t);
+					cancelled = true;
+					terminate();
+					return;
+				}
+				requested.decrementAndGet();
+				if (index >= listCards.size() && nextPage == null) {
+					terminate();
+					subscriber.onComplete();
+					return;
+				}
+			}
+			if (cancelled) {
+				terminate();
+			}
+		}
+
+		/**
+		 * Moves on to the next page if it has arrived, otherwise requests it and
+		 * returns, to be scheduled again on its arrival.
+		 *
+		 * @return {@code true} if the next page is ready to be drained,
+		 *         {@code false} if it is in flight or the subscription has
+		 *         terminated
+		 */
+		private boolean advance() {
+			CompletableFuture<CardPage> future = pageFuture;
+			if (future == null) {
+				if (nextPage == null) {
+					terminate();
+					subscriber.onComplete();
+					return false;
+				}
+				future = Scryfall.requestPageAsync(nextPage);
+				pageFuture = future;
+				future.whenComplete((cardPage, throwable) -> schedule());
+				return false;
+			} else if (!future.isDone()) {
+				return false;
+			}
+			pageFuture = null;
+			try {
+				CardPage cardPage = future.join();
+				listCards = cardPage.getListCards();
+				index = 0;
+				nextPage = cardPage.getNextPage();
+				return true;
+			} catch (RuntimeException e) {
+				terminate();
+				subscriber.onError(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				return false;
+			}
+		}
+
+		/**
+		 * A page in flight is only dropped, not cancelled, as the request may be
+		 * shared with other callers.
+		 */
+		private void terminate() {
+			done = true;
+			nextPage = null;
+			listCards = null;
+			pageFuture = null;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package de.scryfall;
+
+import java.time.Duration;
+
+/**
+ * A CircuitBreaker stops requests from reaching a server that keeps failing.
+ * After {@code failureThreshold} consecutive failures it opens and rejects all
+ * requests for {@code openDuration}. Afterwards a single trial request is let
+ * through: its success closes the breaker again, its failure reopens it.
+ *
+ * @author QUE
+ *
+ */
+public class CircuitBreaker {
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+	public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	public CircuitBreaker() {
+		this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+	}
+
+	/**
+	 * @param failureThreshold consecutive failures after which the breaker opens
+	 * @param openDuration     time requests are rejected before a trial request
+	 *                         is let through
+	 */
+	public CircuitBreaker(int failureThreshold, Duration openDuration) {
+		if (failureThreshold < 1) {
+			throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+		}
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+	}
+
+	/**
+	 * @return {@code true} if a request may be sent now
+	 */
+	synchronized boolean tryAcquire() {
+		switch (state) {
+		case OPEN:
+			if (System.nanoTime() - openedAt < openDuration.toNanos()) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			trialInFlight = true;
+			return true;
+		case HALF_OPEN:
+			if (trialInFlight) {
+				return false;
+			}
+			trialInFlight = true;
+			return true;
+		default:
+			return true;
+		}
+	}
+
+	synchronized void onSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInFlight = false;
+	}
+
+	synchronized void onFailure() {
+		trialInFlight = false;
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public int getFailureThreshold() {
+		return failureThreshold;
+	}
+
+	public Duration getOpenDuration() {
+		return openDuration;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CircuitBreaker [state=" + state + ", consecutiveFailures=" + consecutiveFailures
+				+ ", failureThreshold=" + failureThreshold + ", openDuration=" + openDuration + "]";
+	}
+}
@@ -0,0 +1,18 @@
+package de.scryfall;
+
+import java.io.IOException;
+
+/**
+ * Signals that a request was rejected without being sent, because the
+ * {@link CircuitBreaker} is open after repeated failures.
+ *
+ * @author QUE
+ *
+ */
+public class CircuitOpenException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	public CircuitOpenException(String url) {
+		super("Circuit breaker is open, request rejected: " + url);
+	}
+}
@@ -0,0 +1,69 @@
+package de.scryfall;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A semaphore whose permits can be awaited without blocking a thread. Waiters
+ * are served in FIFO order.
+ *
+ * @author QUE
+ *
+ */
+class ConnectionPermits {
+	private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+	private int available;
+
+	ConnectionPermits(int permits) {
+		this.available = permits;
+	}
+
+	/**
+	 * @return {@code CompletableFuture<Void>} that completes once a permit has
+	 *         been handed to the caller
+	 */
+	CompletableFuture<Void> acquireAsync() {
+		synchronized (this) {
+			if (available > 0) {
+				available--;
+				return CompletableFuture.completedFuture(null);
+			}
+			CompletableFuture<Void> waiter = new CompletableFuture<>();
+			waiters.add(waiter);
+			return waiter;
+		}
+	}
+
+	void acquire() throws InterruptedException {
+		CompletableFuture<Void> waiter = acquireAsync();
+		try {
+			waiter.get();
+		} catch (InterruptedException e) {
+			if (!waiter.cancel(false)) {
+				// the permit was handed over while we were interrupted
+				release();
+			}
+			throw e;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	void release() {
+		while (true) {
+			CompletableFuture<Void> next;
+			synchronized (this) {
+				next = waiters.poll();
+				if (next == null) {
+					available++;
+					return;
+				}
+			}
+			if (next.complete(null)) {
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package de.scryfall;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adds the number of bytes read from the wrapped stream to a counter.
+ *
+ * @author QUE
+ *
+ */
+class CountingInputStream extends FilterInputStream {
+	private final LongAdder counter;
+
+	CountingInputStream(InputStream in, LongAdder counter) {
+		super(in);
+		this.counter = counter;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b != -1) {
+			counter.increment();
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = super.read(b, off, len);
+		if (read > 0) {
+			counter.add(read);
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		counter.add(skipped);
+		return skipped;
+	}
+}
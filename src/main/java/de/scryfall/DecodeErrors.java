@@ -0,0 +1,129 @@
+package de.scryfall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DecodeErrors collects the cards that could not be decoded, so that a single
+ * malformed card does not abort the page or bulk file it is part of. Cards
+ * that fail as a whole are skipped; cards of which only a nested value fails,
+ * such as one of their faces or related cards, are kept without that value.
+ * <p>
+ * Both kinds are counted. The first {@code maxErrors} errors are retained with
+ * their diagnostics, further ones are only counted.
+ *
+ * @see Scryfall#setDecodeErrors(DecodeErrors)
+ * @author QUE
+ *
+ */
+public class DecodeErrors {
+	public static final int DEFAULT_MAX_ERRORS = 1000;
+
+	private final int maxErrors;
+	private final Queue<CardDecodeError> queueErrors = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger retainedErrors = new AtomicInteger();
+	private final LongAdder skippedCards = new LongAdder();
+	private final LongAdder partialCards = new LongAdder();
+	private final LongAdder droppedErrors = new LongAdder();
+
+	public DecodeErrors() {
+		this(DEFAULT_MAX_ERRORS);
+	}
+
+	/**
+	 * @param maxErrors errors retained with their diagnostics, {@code 0} to
+	 *                  only count them
+	 */
+	public DecodeErrors(int maxErrors) {
+		if (maxErrors < 0) {
+			throw new IllegalArgumentException("maxErrors must not be negative: " + maxErrors);
+		}
+		this.maxErrors = maxErrors;
+	}
+
+	/**
+	 * Reports a card that has been skipped.
+	 */
+	void reportSkipped(String cardId, String cardName, String jsonPath, RuntimeException cause) {
+		skippedCards.increment();
+		retain(new CardDecodeError(cardId, cardName, null, jsonPath, cause));
+	}
+
+	/**
+	 * Reports a card that has been decoded without some of its values.
+	 *
+	 * @param listFailures failed values, recorded before the card's id and name
+	 *                     were known
+	 */
+	void reportPartial(String cardId, String cardName, List<CardDecodeError> listFailures) {
+		partialCards.increment();
+		for (CardDecodeError failure : listFailures) {
+			retain(new CardDecodeError(cardId, cardName, failure.getFieldName(), failure.getJsonPath(),
+					failure.getCause()));
+		}
+	}
+
+	private void retain(CardDecodeError error) {
+		if (retainedErrors.getAndUpdate(retained -> retained < maxErrors ? retained + 1 : retained) < maxErrors) {
+			queueErrors.add(error);
+		} else {
+			droppedErrors.increment();
+		}
+	}
+
+	public int getMaxErrors() {
+		return maxErrors;
+	}
+
+	/**
+	 * @return {@code long skippedCards} that could not be decoded at all
+	 */
+	public long getSkippedCards() {
+		return skippedCards.sum();
+	}
+
+	/**
+	 * @return {@code long partialCards} decoded without some of their values
+	 */
+	public long getPartialCards() {
+		return partialCards.sum();
+	}
+
+	/**
+	 * @return {@code long droppedErrors} only counted, as {@code maxErrors}
+	 *         had already been retained
+	 */
+	public long getDroppedErrors() {
+		return droppedErrors.sum();
+	}
+
+	/**
+	 * @return a new {@code List<CardDecodeError> listErrors} of the retained
+	 *         errors in the order they were reported
+	 */
+	public List<CardDecodeError> getListErrors() {
+		return new ArrayList<>(queueErrors);
+	}
+
+	/**
+	 * Discards the retained errors and resets the counters.
+	 */
+	public void clear() {
+		queueErrors.clear();
+		retainedErrors.set(0);
+		skippedCards.reset();
+		partialCards.reset();
+		droppedErrors.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "DecodeErrors [maxErrors=" + maxErrors + ", skippedCards=" + getSkippedCards() + ", partialCards="
+				+ getPartialCards() + ", droppedErrors=" + getDroppedErrors() + ", listErrors=" + getListErrors()
+				+ "]";
+	}
+}
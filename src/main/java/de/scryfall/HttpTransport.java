@@ -0,0 +1,296 @@
+package de.scryfall;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The default {@link ScryfallTransport}. It is backed by a single
+ * {@link HttpClient}, which keeps connections alive between requests and
+ * negotiates HTTP/2 where the server supports it. The number of requests that
+ * may be in progress at the same time is bounded by the pool size. The pool
+ * size is a limit on concurrent requests, not a pool of connections: the
+ * {@link HttpClient} opens and reuses connections on its own, and over HTTP/2
+ * all requests may share a single one. A synchronous request stays in
+ * progress until its body has been closed. Responses
+ * are requested gzip or deflate compressed and decompressed while they are
+ * read; the bytes transferred are recorded in the {@link TransferStatistics}.
+ * The read timeout bounds the wait for the response headers as well as every
+ * wait for further data of the response body, so a server stalling in the
+ * middle of a body fails the request with an
+ * {@link java.net.http.HttpTimeoutException}.
+ *
+ * @author QUE
+ *
+ */
+public class HttpTransport implements ScryfallTransport {
+	public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30);
+	public static final int DEFAULT_POOL_SIZE = 8;
+
+	private static final String USER_AGENT = "scryfall4j";
+	private static final ScheduledExecutorService BODY_TIMEOUTS = Executors
+			.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "scryfall4j-body-timeout");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private final HttpClient httpClient;
+	private final Duration readTimeout;
+	private final ConnectionPermits connections;
+	private final TransferStatistics statistics = new TransferStatistics();
+
+	public HttpTransport() {
+		this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * @param connectTimeout time allowed to establish a connection
+	 * @param readTimeout    time allowed until the response headers arrive and
+	 *                       between two parts of the response body
+	 * @param poolSize       maximum number of requests in progress at once; it
+	 *                       does not limit or reserve connections
+	 */
+	public HttpTransport(Duration connectTimeout, Duration readTimeout, int poolSize) {
+		this(connectTimeout, readTimeout, poolSize, null);
+	}
+
+	/**
+	 * @param connectTimeout time allowed to establish a connection
+	 * @param readTimeout    time allowed until the response headers arrive and
+	 *                       between two parts of the response body
+	 * @param poolSize       maximum number of requests in progress at once; it
+	 *                       does not limit or reserve connections
+	 * @param executor       executor for the asynchronous tasks of the
+	 *                       {@link HttpClient}, {@code null} for its default
+	 */
+	public HttpTransport(Duration connectTimeout, Duration readTimeout, int poolSize, Executor executor) {
+		if (poolSize < 1) {
+			throw new IllegalArgumentException("poolSize must be positive: " + poolSize);
+		}
+		HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL).connectTimeout(connectTimeout);
+		if (executor != null) {
+			builder.executor(executor);
+		}
+		this.httpClient = builder.build();
+		this.readTimeout = readTimeout;
+		this.connections = new ConnectionPermits(poolSize);
+	}
+
+	@Override
+	public InputStream get(String url) throws IOException {
+		return send(createRequest(url).GET().build(), url, 0);
+	}
+
+	/**
+	 * Receives the whole body without blocking a thread and completes with a
+	 * stream over the received bytes. The connection permit is returned as soon
+	 * as the body has arrived.
+	 */
+	@Override
+	public CompletableFuture<InputStream> getAsync(String url) {
+		return sendAsync(createRequest(url).GET().build(), url);
+	}
+
+	/**
+	 * Requests the file without content encoding, since byte ranges refer to the
+	 * encoded representation. If the server ignores the range and sends the
+	 * whole file, the bytes before {@code offset} are skipped.
+	 */
+	@Override
+	public InputStream getFrom(String url, long offset) throws IOException {
+		HttpRequest.Builder builder = createRequest(url).setHeader("Accept", "*/*").setHeader("Accept-Encoding",
+				"identity");
+		if (offset > 0) {
+			builder.header("Range", "bytes=" + offset + "-");
+		}
+		return send(builder.GET().build(), url, offset);
+	}
+
+	@Override
+	public InputStream post(String url, String jsonBody) throws IOException {
+		return send(createRequest(url).header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8)).build(), url, 0);
+	}
+
+	@Override
+	public CompletableFuture<InputStream> postAsync(String url, String jsonBody) {
+		return sendAsync(createRequest(url).header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8)).build(), url);
+	}
+
+	/**
+	 * @return {@code TransferStatistics statistics} of all requests performed by
+	 *         this transport
+	 */
+	public TransferStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * @param offset position requested by a Range header or {@code 0}
+	 */
+	private InputStream send(HttpRequest request, String url, long offset) throws IOException {
+		try {
+			connections.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for a connection: " + url, e);
+		}
+		InputStream body;
+		boolean partial;
+		try {
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			if (offset > 0 && response.statusCode() == 416) {
+				// nothing is left after offset, the file is complete
+				response.body().close();
+				connections.release();
+				return InputStream.nullInputStream();
+			} else if (response.statusCode() >= 400) {
+				response.body().close();
+				throw statusException(response, url);
+			}
+			body = new PermitReleasingInputStream(decode(response.headers(),
+					new IdleTimeoutInputStream(response.body(), readTimeout, BODY_TIMEOUTS, url), url));
+			partial = response.statusCode() == 206;
+		} catch (InterruptedException e) {
+			connections.release();
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while requesting " + url, e);
+		} catch (IOException | RuntimeException e) {
+			connections.release();
+			throw e;
+		}
+		if (offset > 0 && !partial) {
+			try {
+				skipFully(body, offset, url);
+			} catch (IOException e) {
+				body.close();
+				throw e;
+			}
+		}
+		return body;
+	}
+
+	private static void skipFully(InputStream body, long offset, String url) throws IOException {
+		long remaining = offset;
+		while (remaining > 0) {
+			long skipped = body.skip(remaining);
+			if (skipped <= 0) {
+				if (body.read() < 0) {
+					throw new IOException("File is shorter than " + offset + " bytes: " + url);
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+
+	private CompletableFuture<InputStream> sendAsync(HttpRequest request, String url) {
+		return connections.acquireAsync()
+				.thenCompose(permit -> httpClient.sendAsync(request, responseInfo -> new IdleTimeoutSubscriber<>(
+						HttpResponse.BodySubscribers.ofByteArray(), readTimeout, BODY_TIMEOUTS, url)))
+				.whenComplete((response, throwable) -> connections.release()).thenApply(response -> {
+					try {
+						if (response.statusCode() >= 400) {
+							throw statusException(response, url);
+						}
+						return decode(response.headers(), new ByteArrayInputStream(response.body()), url);
+					} catch (IOException e) {
+						throw new CompletionException(e);
+					}
+				});
+	}
+
+	private HttpRequest.Builder createRequest(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).timeout(readTimeout).header("User-Agent", USER_AGENT)
+				.header("Accept", "application/json").header("Accept-Encoding", "gzip, deflate");
+	}
+
+	private ScryfallHttpException statusException(HttpResponse<?> response, String url) {
+		return new ScryfallHttpException(url, response.statusCode(),
+				response.headers().firstValue("Retry-After").map(HttpTransport::parseRetryAfter).orElse(null));
+	}
+
+	/**
+	 * @see https://tools.ietf.org/html/rfc7231#section-7.1.3
+	 */
+	static Duration parseRetryAfter(String value) {
+		try {
+			return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+		} catch (NumberFormatException e) {
+			try {
+				Duration duration = Duration.between(Instant.now(),
+						ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+				return duration.isNegative() ? Duration.ZERO : duration;
+			} catch (DateTimeParseException e2) {
+				return null;
+			}
+		}
+	}
+
+	private InputStream decode(HttpHeaders headers, InputStream rawBody, String url) throws IOException {
+		TransferStatistics.Counter counter = statistics.counter(TransferStatistics.endpointOf(url));
+		counter.requests.increment();
+		InputStream body = new CountingInputStream(rawBody, counter.wireBytes);
+		String contentEncoding = headers.firstValue("Content-Encoding").orElse("identity").trim();
+		try {
+			if (contentEncoding.equalsIgnoreCase("gzip")) {
+				body = new GZIPInputStream(body, 8192);
+			} else if (contentEncoding.equalsIgnoreCase("deflate")) {
+				body = new InflaterInputStream(body);
+			} else if (!contentEncoding.equalsIgnoreCase("identity")) {
+				throw new IOException("Unsupported Content-Encoding " + contentEncoding + " for URL: " + url);
+			}
+		} catch (IOException e) {
+			body.close();
+			throw e;
+		}
+		return new CountingInputStream(body, counter.decodedBytes);
+	}
+
+	/**
+	 * Hands the connection permit back once the body has been consumed and
+	 * closed.
+	 */
+	private class PermitReleasingInputStream extends FilterInputStream {
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		PermitReleasingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				if (released.compareAndSet(false, true)) {
+					connections.release();
+				}
+			}
+		}
+	}
+}
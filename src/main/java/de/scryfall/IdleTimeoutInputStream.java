@@ -0,0 +1,123 @@
+package de.scryfall;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fails a read of the wrapped response body that blocks for longer than the
+ * timeout. Only the time spent inside a read counts, so a slow consumer does
+ * not time out. A stalled read is ended by closing the wrapped stream from a
+ * watchdog task, after which the read throws an {@link HttpTimeoutException}.
+ *
+ * @author QUE
+ *
+ */
+class IdleTimeoutInputStream extends FilterInputStream {
+	private static final long NOT_READING = Long.MIN_VALUE;
+
+	private final long timeoutNanos;
+	private final ScheduledExecutorService scheduler;
+	private final String url;
+	private volatile long readStarted = NOT_READING;
+	private volatile boolean timedOut;
+	private volatile boolean closed;
+	private volatile ScheduledFuture<?> watchdog;
+
+	IdleTimeoutInputStream(InputStream in, Duration timeout, ScheduledExecutorService scheduler, String url) {
+		super(in);
+		this.timeoutNanos = timeout.toNanos();
+		this.scheduler = scheduler;
+		this.url = url;
+		schedule(timeoutNanos);
+	}
+
+	@Override
+	public int read() throws IOException {
+		readStarted = System.nanoTime();
+		try {
+			int b = super.read();
+			checkTimedOut();
+			return b;
+		} catch (IOException e) {
+			checkTimedOut();
+			throw e;
+		} finally {
+			readStarted = NOT_READING;
+		}
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		readStarted = System.nanoTime();
+		try {
+			int read = super.read(b, off, len);
+			checkTimedOut();
+			return read;
+		} catch (IOException e) {
+			checkTimedOut();
+			throw e;
+		} finally {
+			readStarted = NOT_READING;
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		readStarted = System.nanoTime();
+		try {
+			long skipped = super.skip(n);
+			checkTimedOut();
+			return skipped;
+		} catch (IOException e) {
+			checkTimedOut();
+			throw e;
+		} finally {
+			readStarted = NOT_READING;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		ScheduledFuture<?> watchdog = this.watchdog;
+		if (watchdog != null) {
+			watchdog.cancel(false);
+		}
+		super.close();
+	}
+
+	private void schedule(long delayNanos) {
+		watchdog = scheduler.schedule(this::check, delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private void check() {
+		if (closed) {
+			return;
+		}
+		long started = readStarted;
+		long now = System.nanoTime();
+		if (started != NOT_READING && now - started >= timeoutNanos) {
+			timedOut = true;
+			try {
+				in.close();
+			} catch (IOException e) {
+				// the blocked read fails either way
+			}
+		} else {
+			schedule(started != NOT_READING ? started + timeoutNanos - now : timeoutNanos);
+		}
+	}
+
+	private void checkTimedOut() throws HttpTimeoutException {
+		if (timedOut) {
+			throw new HttpTimeoutException(
+					"No data received for " + Duration.ofNanos(timeoutNanos) + " while reading the response: " + url);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package de.scryfall;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The asynchronous counterpart of {@link IdleTimeoutInputStream}. If no part of
+ * the response body arrives within the timeout, the subscription is cancelled
+ * and the body completes with an {@link HttpTimeoutException}.
+ *
+ * @author QUE
+ *
+ */
+class IdleTimeoutSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+	private final HttpResponse.BodySubscriber<T> delegate;
+	private final long timeoutNanos;
+	private final ScheduledExecutorService scheduler;
+	private final String url;
+	private Flow.Subscription subscription;
+	private long lastSignal;
+	private boolean done;
+	private ScheduledFuture<?> watchdog;
+
+	IdleTimeoutSubscriber(HttpResponse.BodySubscriber<T> delegate, Duration timeout,
+			ScheduledExecutorService scheduler, String url) {
+		this.delegate = delegate;
+		this.timeoutNanos = timeout.toNanos();
+		this.scheduler = scheduler;
+		this.url = url;
+	}
+
+	@Override
+	public CompletionStage<T> getBody() {
+		return delegate.getBody();
+	}
+
+	@Override
+	public synchronized void onSubscribe(Flow.Subscription subscription) {
+		this.subscription = subscription;
+		lastSignal = System.nanoTime();
+		watchdog = scheduler.schedule(this::check, timeoutNanos, TimeUnit.NANOSECONDS);
+		delegate.onSubscribe(subscription);
+	}
+
+	@Override
+	public synchronized void onNext(List<ByteBuffer> item) {
+		if (!done) {
+			lastSignal = System.nanoTime();
+			delegate.onNext(item);
+		}
+	}
+
+	@Override
+	public synchronized void onError(Throwable throwable) {
+		if (!done) {
+			done = true;
+			watchdog.cancel(false);
+			delegate.onError(throwable);
+		}
+	}
+
+	@Override
+	public synchronized void onComplete() {
+		if (!done) {
+			done = true;
+			watchdog.cancel(false);
+			delegate.onComplete();
+		}
+	}
+
+	private synchronized void check() {
+		if (done) {
+			return;
+		}
+		long idle = System.nanoTime() - lastSignal;
+		if (idle >= timeoutNanos) {
+			done = true;
+			subscription.cancel();
+			delegate.onError(new HttpTimeoutException(
+					"No data received for " + Duration.ofNanos(timeoutNanos) + " while reading the response: " + url));
+		} else {
+			watchdog = scheduler.schedule(this::check, timeoutNanos - idle, TimeUnit.NANOSECONDS);
+		}
+	}
+}
@@ -0,0 +1,916 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import de.scryfall.enums.BorderColor;
+import de.scryfall.enums.Frame;
+import de.scryfall.enums.FrameEffect;
+import de.scryfall.enums.Game;
+import de.scryfall.enums.ImageType;
+import de.scryfall.enums.Layout;
+import de.scryfall.enums.Legality;
+import de.scryfall.enums.PlayFormat;
+import de.scryfall.enums.PriceType;
+import de.scryfall.enums.Rarity;
+import de.scryfall.enums.RelatedSite;
+import de.scryfall.enums.SetType;
+import de.scryfall.enums.Symbol;
+
+/**
+ * JsonBinder decodes cards and sets directly from the tokens of a
+ * {@link JsonReader}, without building a {@code JsonObject} tree first. The
+ * decoded objects are equal to the ones created from a tree: every token is
+ * echoed into a {@link JsonWriter}, which reproduces the {@code jsonString} a
+ * tree would have serialized to.
+ * <p>
+ * A JsonBinder is not thread-safe; use one per reader.
+ *
+ * @author QUE
+ *
+ */
+class JsonBinder {
+	private final JsonReader in;
+	private JsonWriter echo;
+	/**
+	 * Objects and arrays opened and not yet closed.
+	 */
+	private int depth;
+	/**
+	 * Card being read by {@link #readCard(Set)}.
+	 */
+	private MtgCardInformation card;
+
+	/**
+	 * Reads an element of an array.
+	 */
+	private interface ElementReader<T> {
+		T read() throws IOException;
+	}
+
+	JsonBinder(JsonReader in) {
+		this.in = in;
+	}
+
+	/**
+	 * Reads the next value of the reader, which has to be a card object.
+	 *
+	 * @return {@code MtgCardInformation card}
+	 * @throws IOException
+	 */
+	MtgCardInformation readCard() throws IOException {
+		return readCard(null);
+	}
+
+	/**
+	 * Like {@link #readCard()}, but a card that fails to decode does not abort
+	 * the reader. The rest of the card is skipped, so that the reader is
+	 * positioned at the next value, and the card is reported to
+	 * {@link Scryfall#getDecodeErrors()}.
+	 *
+	 * @return {@code MtgCardInformation card} or {@code null} if it has been
+	 *         skipped
+	 * @throws IOException if the JSON is malformed
+	 */
+	MtgCardInformation readCardIsolated() throws IOException {
+		if (in.peek() != JsonToken.BEGIN_OBJECT) {
+			RuntimeException e = new IllegalStateException("Expected a card but was " + in.peek());
+			Scryfall.getDecodeErrors().reportSkipped(null, null, in.getPath(), e);
+			copyValue();
+			return null;
+		}
+		int depth = this.depth;
+		try {
+			return readCard(null);
+		} catch (RuntimeException e) {
+			String jsonPath = in.getPath();
+			echo = null;
+			skipTo(depth);
+			Scryfall.getDecodeErrors().reportSkipped(card.getId(), card.getName(), jsonPath, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the next value of the reader, which has to be a list object of
+	 * cards. Cards that fail to decode are skipped as by
+	 * {@link #readCardIsolated()}.
+	 *
+	 * @return {@code CardPage cardPage}
+	 * @throws IOException if the JSON is malformed
+	 */
+	CardPage readCardPage() throws IOException {
+		return readCardPage(null);
+	}
+
+	/**
+	 * @see #readCardPage()
+	 * @param onNextPage called with the url of the next page as soon as it has
+	 *                   been read, which for Scryfall's responses is before the
+	 *                   cards; may be {@code null}
+	 */
+	CardPage readCardPage(Consumer<String> onNextPage) throws IOException {
+		List<MtgCardInformation> listCards = new ArrayList<>();
+		boolean hasMore = false;
+		String nextPage = null;
+		if (in.peek() != JsonToken.BEGIN_OBJECT) {
+			throw new IllegalStateException("Expected a list but was " + in.peek());
+		}
+		beginObject();
+		while (in.hasNext()) {
+			switch (nextName()) {
+			case "data":
+				if (beginArray()) {
+					while (in.hasNext()) {
+						MtgCardInformation card = readCardIsolated();
+						if (card != null) {
+							listCards.add(card);
+						}
+					}
+					endArray();
+				}
+				break;
+			case "has_more":
+				hasMore = readBoolean();
+				break;
+			case "next_page":
+				nextPage = readString();
+				if (hasMore && nextPage != null && onNextPage != null) {
+					onNextPage.accept(nextPage);
+				}
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+		endObject();
+		return new CardPage(listCards, hasMore, nextPage);
+	}
+
+	/**
+	 * Reads the next value of the reader, which has to be a card object, but
+	 * only decodes the given fields. The values of all other fields are skipped
+	 * and no jsonString is recorded.
+	 *
+	 * @param fields names of the fields to decode, {@code null} for all
+	 * @return {@code MtgCardInformation card}
+	 * @throws IOException
+	 */
+	MtgCardInformation readCard(Set<String> fields) throws IOException {
+		StringWriter jsonString = fields == null ? startEcho() : null;
+		MtgCardInformation card = new MtgCardInformation();
+		this.card = card;
+		List<CardDecodeError> listFailures = new ArrayList<>(0);
+		List<Integer> listMultiverseIds = new ArrayList<>();
+		List<RelatedCard> listAllParts = new ArrayList<>();
+		List<CardFace> listCardFaces = new ArrayList<>();
+		long[] legalities = Legality.newLegalityVector();
+		List<Game> listGames = new ArrayList<>();
+		Map<ImageType, String> mapImageUrls = new EnumMap<>(ImageType.class);
+		Map<RelatedSite, String> mapPurchaseUrls = new EnumMap<>(RelatedSite.class);
+		Map<RelatedSite, String> mapRelatedUrls = new EnumMap<>(RelatedSite.class);
+		beginObject();
+		while (in.hasNext()) {
+			String name = nextName();
+			if (fields != null && !fields.contains(name)) {
+				copyValue();
+				continue;
+			}
+			switch (name) {
+			case "id":
+				card.setId(readString());
+				break;
+			case "arena_id":
+				card.setArenaId(readInt());
+				break;
+			case "mtgo_id":
+				card.setMtgoId(readInt());
+				break;
+			case "mtgo_foil_id":
+				card.setMtgoFoilId(readInt());
+				break;
+			case "multiverse_ids":
+				if (beginArray()) {
+					while (in.hasNext()) {
+						listMultiverseIds.add(readInt());
+					}
+					endArray();
+				}
+				break;
+			case "tcgplayer_id":
+				card.setTcgPlayerId(readInt());
+				break;
+			case "oracle_id":
+				card.setOracleId(readPooledString("oracle_id"));
+				break;
+			case "lang":
+				card.setLanguageCode(JsonIO.parseLanguageCode(readString()));
+				break;
+			case "prints_search_uri":
+				card.setPrintsApiSearchUrl(readPooledString("prints_search_uri"));
+				break;
+			case "rulings_uri":
+				card.setRulingsApiUrl(readString());
+				break;
+			case "scryfall_uri":
+				card.setSelfScryfallUrl(readString());
+				break;
+			case "uri":
+				card.setSelfApiUrl(readString());
+				break;
+			case "all_parts":
+				readElements(name, this::readRelatedCard, listAllParts, listFailures);
+				break;
+			case "card_faces":
+				readElements(name, this::readCardFace, listCardFaces, listFailures);
+				break;
+			case "cmc":
+				card.setCmc(readDouble());
+				break;
+			case "colors":
+				card.setColorsMask(readColorMask());
+				break;
+			case "color_identity":
+				card.setColorIdentityMask(readColorMask());
+				break;
+			case "color_indicator":
+				card.setColorIndicatorMask(readColorMask());
+				break;
+			case "edhrec_rank":
+				card.setEdhrecRank(readInt());
+				break;
+			case "foil":
+				card.setFoilExists(readBoolean());
+				break;
+			case "hand_modifier":
+				card.setHandModifier(readPooledString("hand_modifier"));
+				break;
+			case "layout":
+				String layout = readString();
+				card.setLayout(layout != null ? Layout.parseId(layout) : null);
+				break;
+			case "legalities":
+				if (beginObject()) {
+					while (in.hasNext()) {
+						PlayFormat playFormat = PlayFormat.parseId(nextName());
+						Legality legality = Legality.parseId(readString());
+						// unknown keys would overwrite each other
+						if (playFormat != PlayFormat.UNKNOWN) {
+							Legality.put(legalities, playFormat, legality);
+						}
+					}
+					endObject();
+				}
+				break;
+			case "life_modifier":
+				card.setLifeModifier(readPooledString("life_modifier"));
+				break;
+			case "loyalty":
+				card.setLoyalty(readPooledString("loyalty"));
+				break;
+			case "mana_cost":
+				card.setManaCost(readPooledString("mana_cost"));
+				break;
+			case "name":
+				card.setName(readPooledString("name"));
+				break;
+			case "nonfoil":
+				card.setNonFoilExists(readBoolean());
+				break;
+			case "oracle_text":
+				card.setOracleText(readPooledString("oracle_text"));
+				break;
+			case "oversized":
+				card.setOversized(readBoolean());
+				break;
+			case "power":
+				card.setPower(readPooledString("power"));
+				break;
+			case "reserved":
+				card.setReserved(readBoolean());
+				break;
+			case "toughness":
+				card.setToughness(readPooledString("toughness"));
+				break;
+			case "type_line":
+				card.setTypeLine(readPooledString("type_line"));
+				break;
+			case "artist":
+				card.setArtist(readPooledString("artist"));
+				break;
+			case "border_color":
+				String borderColor = readString();
+				card.setBorderColor(borderColor != null ? BorderColor.parseId(borderColor) : null);
+				break;
+			case "collector_number":
+				card.setCollectorNumber(readPooledString("collector_number"));
+				break;
+			case "digital":
+				card.setDigitalCard(readBoolean());
+				break;
+			case "flavor_text":
+				card.setFlavorText(readString());
+				break;
+			case "frame_effect":
+				String frameEffect = readString();
+				card.setFrameEffect(frameEffect != null ? FrameEffect.parseId(frameEffect) : null);
+				break;
+			case "frame":
+				String frame = readString();
+				card.setFrame(frame != null ? Frame.parseId(frame) : null);
+				break;
+			case "full_art":
+				card.setFullArt(readBoolean());
+				break;
+			case "games":
+				if (beginArray()) {
+					while (in.hasNext()) {
+						listGames.add(Game.parseId(readString()));
+					}
+					endArray();
+				}
+				break;
+			case "highres_image":
+				card.setHighResImageAvailable(readBoolean());
+				break;
+			case "illustration_id":
+				card.setIllustrationId(readPooledString("illustration_id"));
+				break;
+			case "image_uris":
+				readImageUrls(mapImageUrls);
+				break;
+			case "prices":
+				if (beginObject()) {
+					while (in.hasNext()) {
+						PriceType priceType = PriceType.parseId(nextName());
+						long price = Prices.parse(readString());
+						if (priceType != PriceType.UNKNOWN) {
+							card.setPrice(priceType, price);
+						}
+					}
+					endObject();
+				}
+				break;
+			case "printed_name":
+				card.setPrintedName(readString());
+				break;
+			case "printed_text":
+				card.setPrintedText(readString());
+				break;
+			case "printed_type_line":
+				card.setPrintedTypeLine(readString());
+				break;
+			case "promo":
+				card.setPromo(readBoolean());
+				break;
+			case "purchase_uris":
+				readRelatedUrls(mapPurchaseUrls);
+				break;
+			case "related_uris":
+				readRelatedUrls(mapRelatedUrls);
+				break;
+			case "rarity":
+				String rarity = readString();
+				card.setRarity(rarity != null ? Rarity.parseId(rarity) : null);
+				break;
+			case "released_at":
+				card.setReleaseDate(JsonIO.parseLocalDate(readString()));
+				break;
+			case "reprint":
+				card.setReprint(readBoolean());
+				break;
+			case "scryfall_set_uri":
+				card.setSetScryfallUrl(readPooledString("scryfall_set_uri"));
+				break;
+			case "set_name":
+				card.setSetName(readPooledString("set_name"));
+				break;
+			case "set_search_uri":
+				card.setSetApiSearchUrl(readPooledString("set_search_uri"));
+				break;
+			case "set_uri":
+				card.setSetApiUrl(readPooledString("set_uri"));
+				break;
+			case "set":
+				card.setSetCode(readPooledString("set"));
+				break;
+			case "story_spotlight":
+				card.setStorySpotlight(readBoolean());
+				break;
+			case "watermark":
+				card.setWatermark(readPooledString("watermark"));
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+		endObject();
+		// related urls take precedence over purchase urls of the same site
+		mapPurchaseUrls.putAll(mapRelatedUrls);
+		card.setListMultiverseIds(listMultiverseIds);
+		card.setListAllParts(listAllParts);
+		card.setListCardFaces(listCardFaces);
+		card.setLegalityVector(legalities);
+		card.setListGames(listGames);
+		card.setMapImageUrls(mapImageUrls);
+		card.setMapRelatedUrls(mapPurchaseUrls);
+		card.setJsonString(stopEcho(jsonString));
+		if (!listFailures.isEmpty()) {
+			Scryfall.getDecodeErrors().reportPartial(card.getId(), card.getName(), listFailures);
+		}
+		if (fields == null && Scryfall.isCompactUrls()) {
+			card.compactUrls();
+		}
+		return card;
+	}
+
+	/**
+	 * Reads the next value of the reader without decoding it.
+	 *
+	 * @return {@code String jsonString} of the value, as a tree would have
+	 *         serialized it
+	 * @throws IOException
+	 */
+	String readRaw() throws IOException {
+		StringWriter jsonString = new StringWriter();
+		echo = new JsonWriter(jsonString);
+		echo.setLenient(true);
+		copyValue();
+		return stopEcho(jsonString);
+	}
+
+	/**
+	 * Reads the next value of the reader, which has to be a set object.
+	 *
+	 * @return {@code MtgSetInformation set}
+	 * @throws IOException
+	 */
+	MtgSetInformation readSet() throws IOException {
+		StringWriter jsonString = startEcho();
+		MtgSetInformation set = new MtgSetInformation();
+		beginObject();
+		while (in.hasNext()) {
+			switch (nextName()) {
+			case "id":
+				set.setId(readString());
+				break;
+			case "code":
+				set.setCode(readString());
+				break;
+			case "mtgo_code":
+				set.setMtgoCode(readString());
+				break;
+			case "tcgplayer_id":
+				set.setTcgPlayerId(readInt());
+				break;
+			case "name":
+				set.setName(readString());
+				break;
+			case "set_type":
+				String setType = readString();
+				set.setSetType(setType != null ? SetType.parseId(setType) : null);
+				break;
+			case "released_at":
+				set.setReleaseDate(JsonIO.parseLocalDate(readString()));
+				break;
+			case "block_code":
+				set.setBlockCode(readString());
+				break;
+			case "block":
+				set.setBlock(readString());
+				break;
+			case "parent_set_code":
+				set.setParentSetCode(readString());
+				break;
+			case "card_count":
+				set.setCardCount(readInt());
+				break;
+			case "digital":
+				set.setDigital(readBoolean());
+				break;
+			case "foil_only":
+				set.setFoilOnly(readBoolean());
+				break;
+			case "scryfall_uri":
+				set.setSelfScryfallUrl(readString());
+				break;
+			case "uri":
+				set.setSelfApiUrl(readString());
+				break;
+			case "icon_svg_uri":
+				set.setIconSvgUrl(readString());
+				break;
+			case "search_uri":
+				set.setSearchApiUrl(readString());
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+		endObject();
+		set.setJsonString(stopEcho(jsonString));
+		if (Scryfall.isCompactUrls()) {
+			set.compactUrls();
+		}
+		return set;
+	}
+
+	private CardFace readCardFace() throws IOException {
+		CardFace cardFace = new CardFace();
+		List<Symbol> listColorIndicators = new ArrayList<>();
+		List<Symbol> listColors = new ArrayList<>();
+		Map<ImageType, String> mapImageUrls = new EnumMap<>(ImageType.class);
+		beginObject();
+		while (in.hasNext()) {
+			switch (nextName()) {
+			case "artist":
+				cardFace.setArtist(readPooledString("artist"));
+				break;
+			case "color_indicator":
+				readSymbols(listColorIndicators);
+				break;
+			case "colors":
+				readSymbols(listColors);
+				break;
+			case "flavor_text":
+				cardFace.setFlavorText(readString());
+				break;
+			case "illustration_id":
+				cardFace.setIllustrationId(readPooledString("illustration_id"));
+				break;
+			case "image_uris":
+				readImageUrls(mapImageUrls);
+				break;
+			case "loyalty":
+				cardFace.setLoyalty(readPooledString("loyalty"));
+				break;
+			case "mana_cost":
+				cardFace.setMana_cost(readPooledString("mana_cost"));
+				break;
+			case "name":
+				cardFace.setName(readPooledString("name"));
+				break;
+			case "oracle_text":
+				cardFace.setOracleText(readPooledString("oracle_text"));
+				break;
+			case "power":
+				cardFace.setPower(readPooledString("power"));
+				break;
+			case "printed_name":
+				cardFace.setPrintedName(readString());
+				break;
+			case "printed_text":
+				cardFace.setPrintedText(readString());
+				break;
+			case "printed_type_line":
+				cardFace.setPrintedTypeLine(readString());
+				break;
+			case "toughness":
+				cardFace.setToughness(readPooledString("toughness"));
+				break;
+			case "type_line":
+				cardFace.setTypeLine(readPooledString("type_line"));
+				break;
+			case "watermark":
+				cardFace.setWatermark(readPooledString("watermark"));
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+		endObject();
+		cardFace.setListColorIndicators(listColorIndicators);
+		cardFace.setListColors(listColors);
+		cardFace.setMapImageUrls(mapImageUrls);
+		return cardFace;
+	}
+
+	private RelatedCard readRelatedCard() throws IOException {
+		RelatedCard relatedCard = new RelatedCard();
+		beginObject();
+		while (in.hasNext()) {
+			switch (nextName()) {
+			case "id":
+				relatedCard.setId(readPooledString("id"));
+				break;
+			case "component":
+				relatedCard.setComponent(readPooledString("component"));
+				break;
+			case "name":
+				relatedCard.setName(readPooledString("name"));
+				break;
+			case "type_line":
+				relatedCard.setTypeLine(readPooledString("type_line"));
+				break;
+			case "uri":
+				relatedCard.setSelfUri(readPooledString("uri"));
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+		endObject();
+		return relatedCard;
+	}
+
+	private int readColorMask() throws IOException {
+		int colorMask = 0;
+		if (beginArray()) {
+			while (in.hasNext()) {
+				colorMask |= Symbol.parseId(readString()).getColorBit();
+			}
+			endArray();
+		}
+		return colorMask;
+	}
+
+	private void readSymbols(List<Symbol> listSymbols) throws IOException {
+		if (beginArray()) {
+			while (in.hasNext()) {
+				listSymbols.add(Symbol.parseId(readString()));
+			}
+			endArray();
+		}
+	}
+
+	private void readImageUrls(Map<ImageType, String> mapImageUrls) throws IOException {
+		if (beginObject()) {
+			while (in.hasNext()) {
+				ImageType imageType = ImageType.parseId(nextName());
+				String url = readString();
+				if (imageType != ImageType.UNKNOWN) {
+					mapImageUrls.put(imageType, url);
+				}
+			}
+			endObject();
+		}
+	}
+
+	private void readRelatedUrls(Map<RelatedSite, String> mapUrls) throws IOException {
+		if (beginObject()) {
+			while (in.hasNext()) {
+				RelatedSite relatedSite = RelatedSite.parseId(nextName());
+				String url = readString();
+				if (relatedSite != RelatedSite.UNKNOWN) {
+					mapUrls.put(relatedSite, url);
+				}
+			}
+			endObject();
+		}
+	}
+
+	/**
+	 * @return the writer receiving the echo or {@code null} if the
+	 *         {@link JsonRetention} keeps no JSON
+	 */
+	private StringWriter startEcho() {
+		if (Scryfall.getJsonRetention() == JsonRetention.NONE) {
+			return null;
+		}
+		StringWriter jsonString = new StringWriter();
+		echo = new JsonWriter(jsonString);
+		echo.setLenient(true);
+		return jsonString;
+	}
+
+	private String stopEcho(StringWriter jsonString) {
+		echo = null;
+		return jsonString == null ? null : jsonString.toString();
+	}
+
+	/**
+	 * @return {@code true} if an object was opened, {@code false} if the value
+	 *         was something else and has been skipped
+	 */
+	private boolean beginObject() throws IOException {
+		switch (in.peek()) {
+		case BEGIN_OBJECT:
+			in.beginObject();
+			depth++;
+			if (echo != null) {
+				echo.beginObject();
+			}
+			return true;
+		default:
+			copyValue();
+			return false;
+		}
+	}
+
+	private void endObject() throws IOException {
+		in.endObject();
+		depth--;
+		if (echo != null) {
+			echo.endObject();
+		}
+	}
+
+	/**
+	 * @return {@code true} if an array was opened, {@code false} if the value
+	 *         was something else and has been skipped
+	 */
+	private boolean beginArray() throws IOException {
+		switch (in.peek()) {
+		case BEGIN_ARRAY:
+			in.beginArray();
+			depth++;
+			if (echo != null) {
+				echo.beginArray();
+			}
+			return true;
+		default:
+			copyValue();
+			return false;
+		}
+	}
+
+	private void endArray() throws IOException {
+		in.endArray();
+		depth--;
+		if (echo != null) {
+			echo.endArray();
+		}
+	}
+
+	private String nextName() throws IOException {
+		String name = in.nextName();
+		if (echo != null) {
+			echo.name(name);
+		}
+		return name;
+	}
+
+	/**
+	 * Reads a primitive of a field whose values repeat across many objects.
+	 *
+	 * @see StringPool
+	 */
+	private String readPooledString(String fieldName) throws IOException {
+		return Scryfall.getStringPool().intern(fieldName, readString());
+	}
+
+	/**
+	 * Reads a primitive as its text, like {@code JsonElement.getAsString()}.
+	 *
+	 * @return the text of the value or {@code null} for null, arrays and objects
+	 */
+	private String readString() throws IOException {
+		switch (in.peek()) {
+		case STRING:
+			String string = in.nextString();
+			if (echo != null) {
+				echo.value(string);
+			}
+			return string;
+		case NUMBER:
+			String number = in.nextString();
+			if (echo != null) {
+				echo.jsonValue(number);
+			}
+			return number;
+		case BOOLEAN:
+			boolean bool = in.nextBoolean();
+			if (echo != null) {
+				echo.value(bool);
+			}
+			return String.valueOf(bool);
+		case NULL:
+			in.nextNull();
+			if (echo != null) {
+				echo.nullValue();
+			}
+			return null;
+		default:
+			copyValue();
+			return null;
+		}
+	}
+
+	private int readInt() throws IOException {
+		String value = readString();
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			try {
+				return new BigDecimal(value).intValue();
+			} catch (NumberFormatException e2) {
+				return 0;
+			}
+		}
+	}
+
+	private double readDouble() throws IOException {
+		String value = readString();
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private boolean readBoolean() throws IOException {
+		return Boolean.parseBoolean(readString());
+	}
+
+	/**
+	 * Reads the elements of an array. An element that fails to decode is
+	 * skipped and recorded as a failure, the others are kept.
+	 */
+	private <T> void readElements(String fieldName, ElementReader<T> elementReader, List<T> listElements,
+			List<CardDecodeError> listFailures) throws IOException {
+		if (beginArray()) {
+			for (int i = 0; in.hasNext(); i++) {
+				if (in.peek() != JsonToken.BEGIN_OBJECT) {
+					RuntimeException e = new IllegalStateException("Expected an object but was " + in.peek());
+					listFailures.add(new CardDecodeError(null, null, fieldName + "[" + i + "]", in.getPath(), e));
+					copyValue();
+					continue;
+				}
+				int depth = this.depth;
+				try {
+					listElements.add(elementReader.read());
+				} catch (RuntimeException e) {
+					listFailures.add(new CardDecodeError(null, null, fieldName + "[" + i + "]", in.getPath(), e));
+					skipTo(depth);
+				}
+			}
+			endArray();
+		}
+	}
+
+	/**
+	 * Closes the objects and arrays opened since the depth was recorded,
+	 * echoing the values skipped, so that reading continues after a value that
+	 * failed to decode.
+	 */
+	private void skipTo(int depth) throws IOException {
+		while (this.depth > depth) {
+			switch (in.peek()) {
+			case END_OBJECT:
+				endObject();
+				break;
+			case END_ARRAY:
+				endArray();
+				break;
+			case NAME:
+				nextName();
+				break;
+			default:
+				copyValue();
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Skips the next value, echoing it if a jsonString is being recorded.
+	 */
+	private void copyValue() throws IOException {
+		if (echo == null) {
+			in.skipValue();
+			return;
+		}
+		switch (in.peek()) {
+		case BEGIN_ARRAY:
+			beginArray();
+			while (in.hasNext()) {
+				copyValue();
+			}
+			endArray();
+			break;
+		case BEGIN_OBJECT:
+			beginObject();
+			while (in.hasNext()) {
+				nextName();
+				copyValue();
+			}
+			endObject();
+			break;
+		default:
+			readString();
+			break;
+		}
+	}
+}
@@ -2,56 +2,190 @@ package de.scryfall;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.neovisionaries.i18n.LanguageCode;
 
+/**
+ * JsonIO reads the fields of a {@link JsonObject}. Absent fields, JSON nulls
+ * and values of the wrong kind are detected by presence checks and yield a
+ * default value, so decoding regular data throws no exceptions.
+ *
+ * @author QUE
+ *
+ */
 class JsonIO {
+	/**
+	 * Release dates of all cards and sets span a few thousand days.
+	 */
+	private static final MemoCache<String, LocalDate> DATES = new MemoCache<>(1 << 13, JsonIO::toLocalDate);
+	private static final MemoCache<String, LanguageCode> LANGUAGE_CODES = new MemoCache<>(1 << 8,
+			ScryfallUtils::fromScryfallLanguageCode);
+
+	/**
+	 * @return the elements of the array or none if the field is not an array
+	 */
+	static Iterable<JsonElement> parseArray(JsonObject jObject, String fieldName) {
+		JsonElement jElement = jObject.get(fieldName);
+		return jElement != null && jElement.isJsonArray() ? jElement.getAsJsonArray() : Collections.emptyList();
+	}
+
 	static BigDecimal parseBigDecimal(JsonObject jObject, String fieldName) {
-		try {
-			return jObject.get(fieldName).getAsBigDecimal();
-		} catch (Exception e) {
-			return null;
-		}
+		return toBigDecimal(jObject.get(fieldName));
 	}
 
 	static boolean parseBoolean(JsonObject jObject, String fieldName) {
-		try {
-			return jObject.get(fieldName).getAsBoolean();
-		} catch (Exception e) {
-			return false;
-		}
+		JsonPrimitive jPrimitive = primitive(jObject.get(fieldName));
+		return jPrimitive != null && jPrimitive.getAsBoolean();
 	}
 
 	static double parseDouble(JsonObject jObject, String fieldName) {
+		JsonPrimitive jPrimitive = primitive(jObject.get(fieldName));
+		if (jPrimitive == null) {
+			return 0;
+		} else if (jPrimitive.isNumber()) {
+			return jPrimitive.getAsDouble();
+		}
 		try {
-			return jObject.get(fieldName).getAsDouble();
-		} catch (Exception e) {
+			return Double.parseDouble(jPrimitive.getAsString());
+		} catch (NumberFormatException e) {
 			return 0;
 		}
 	}
 
+	/**
+	 * @return the members of the object or none if the field is not an object
+	 */
+	static Set<Map.Entry<String, JsonElement>> parseEntries(JsonObject jObject, String fieldName) {
+		JsonElement jElement = jObject.get(fieldName);
+		return jElement != null && jElement.isJsonObject() ? jElement.getAsJsonObject().entrySet()
+				: Collections.emptySet();
+	}
+
 	static int parseInteger(JsonObject jObject, String fieldName) {
+		return toInteger(jObject.get(fieldName));
+	}
+
+	static LanguageCode parseLanguageCode(JsonObject jObject, String fieldName) {
+		return parseLanguageCode(parseString(jObject, fieldName));
+	}
+
+	/**
+	 * @param value Scryfall language code such as {@code "en"} or
+	 *              {@code "zhs"}
+	 * @return {@code LanguageCode languageCode} or {@code null} if the value is
+	 *         {@code null} or not recognised
+	 * @see ScryfallUtils#fromScryfallLanguageCode(String)
+	 */
+	static LanguageCode parseLanguageCode(String value) {
+		return LANGUAGE_CODES.get(value);
+	}
+
+	static LocalDate parseLocalDate(JsonObject jObject, String fieldName) {
+		return parseLocalDate(parseString(jObject, fieldName));
+	}
+
+	/**
+	 * @param value ISO date such as {@code "2019-10-04"}
+	 * @return {@code LocalDate date} or {@code null} if the value is
+	 *         {@code null} or no ISO date
+	 */
+	static LocalDate parseLocalDate(String value) {
+		return DATES.get(value);
+	}
+
+	private static LocalDate toLocalDate(String value) {
 		try {
-			return jObject.get(fieldName).getAsInt();
-		} catch (Exception e) {
+			return LocalDate.parse(value, DateTimeFormatter.ISO_DATE);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	static long parseLong(JsonObject jObject, String fieldName) {
+		JsonPrimitive jPrimitive = primitive(jObject.get(fieldName));
+		if (jPrimitive == null) {
+			return 0;
+		} else if (jPrimitive.isNumber()) {
+			return jPrimitive.getAsLong();
+		}
+		try {
+			return Long.parseLong(jPrimitive.getAsString());
+		} catch (NumberFormatException e) {
 			return 0;
 		}
 	}
 
-	static LocalDate parseLocalDate(JsonObject jObject, String fieldName, DateTimeFormatter dtf) {
+	static ZonedDateTime parseZonedDateTime(JsonObject jObject, String fieldName, DateTimeFormatter dtf) {
+		String value = parseString(jObject, fieldName);
+		if (value == null) {
+			return null;
+		}
 		try {
-			return LocalDate.parse(jObject.get(fieldName).getAsString(), dtf);
-		} catch (Exception e) {
-			return LocalDate.now();
+			return ZonedDateTime.parse(value, dtf);
+		} catch (DateTimeParseException e) {
+			return null;
 		}
 	}
 
 	static String parseString(JsonObject jObject, String fieldName) {
+		return toString(jObject.get(fieldName));
+	}
+
+	/**
+	 * Like {@link #parseString(JsonObject, String)}, but for fields whose values
+	 * repeat across many objects and are therefore pooled.
+	 *
+	 * @see StringPool
+	 */
+	static String parsePooledString(JsonObject jObject, String fieldName) {
+		return Scryfall.getStringPool().intern(fieldName, parseString(jObject, fieldName));
+	}
+
+	static BigDecimal toBigDecimal(JsonElement jElement) {
+		JsonPrimitive jPrimitive = primitive(jElement);
+		if (jPrimitive == null || jPrimitive.isBoolean()) {
+			return null;
+		}
 		try {
-			return jObject.get(fieldName).getAsString();
-		} catch (Exception e) {
+			return jPrimitive.getAsBigDecimal();
+		} catch (NumberFormatException e) {
 			return null;
 		}
 	}
+
+	static int toInteger(JsonElement jElement) {
+		JsonPrimitive jPrimitive = primitive(jElement);
+		if (jPrimitive == null) {
+			return 0;
+		} else if (jPrimitive.isNumber()) {
+			return jPrimitive.getAsInt();
+		}
+		try {
+			return Integer.parseInt(jPrimitive.getAsString());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * @return the text of a primitive or {@code null} for JSON null, arrays and
+	 *         objects
+	 */
+	static String toString(JsonElement jElement) {
+		JsonPrimitive jPrimitive = primitive(jElement);
+		return jPrimitive != null ? jPrimitive.getAsString() : null;
+	}
+
+	private static JsonPrimitive primitive(JsonElement jElement) {
+		return jElement != null && jElement.isJsonPrimitive() ? jElement.getAsJsonPrimitive() : null;
+	}
 }
@@ -0,0 +1,158 @@
+package de.scryfall;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import de.scryfall.enums.PlayFormat;
+
+/**
+ * JsonRetention controls how cards and sets keep the JSON they were decoded
+ * from, which is returned by their {@code getJsonString()}.
+ *
+ * @see Scryfall#setJsonRetention(JsonRetention)
+ * @author QUE
+ *
+ */
+public enum JsonRetention {
+	/**
+	 * The JSON is not kept, {@code getJsonString()} returns {@code null}. This
+	 * also saves serializing the JSON while decoding.
+	 */
+	NONE,
+	/**
+	 * The JSON is kept as UTF-8 bytes.
+	 */
+	UTF8,
+	/**
+	 * The JSON is kept deflated and inflated on every call of
+	 * {@code getJsonString()}. A preset dictionary of the field names and urls
+	 * common to all cards lets even single cards compress to a fraction of their
+	 * size.
+	 */
+	COMPRESSED;
+
+	/**
+	 * Marks deflated bytes; JSON text never starts with a zero byte.
+	 */
+	private static final byte DEFLATED = 0;
+
+	/**
+	 * Field names and stable url prefixes of a card, the most frequent ones
+	 * last, as they can be referenced with the shortest distances. Values are
+	 * left out, since they change over time. The dictionary only ever applies
+	 * to bytes held in memory, so it may change between versions.
+	 */
+	private static final byte[] DICTIONARY = ("\"multiverse_ids\":[],\"mtgo_id\":,\"mtgo_foil_id\":,\"arena_id\":,"
+			+ "\"tcgplayer_id\":,\"cardmarket_id\":,\"hand_modifier\":\"\",\"life_modifier\":\"\",\"loyalty\":\"\","
+			+ "\"power\":\"\",\"toughness\":\"\",\"watermark\":\"\",\"printed_name\":\"\",\"printed_text\":\"\","
+			+ "\"printed_type_line\":\"\",\"color_indicator\":[],\"all_parts\":[{"
+			+ "\"component\":\"\",\"card_faces\":[{\"flavor_text\":\"\",\"keywords\":[],"
+			+ "\"produced_mana\":[],\"frame_effects\":[],\"security_stamp\":\"\","
+			+ "\"preview\":{\"source\":\"\",\"source_uri\":\"\",\"previewed_at\":\"\"},\"set_type\":\"\","
+			+ "\"border_color\":\"\",\"frame\":\"\",\"lang\":\"\",\"layout\":\"\",\"highres_image\":,"
+			+ "\"image_status\":\"\",\"image_uris\":{\"small\":\"https://cards.scryfall.io/small/front/\","
+			+ "\"normal\":\"https://cards.scryfall.io/normal/front/\","
+			+ "\"large\":\"https://cards.scryfall.io/large/front/\","
+			+ "\"png\":\"https://cards.scryfall.io/png/front/\","
+			+ "\"art_crop\":\"https://cards.scryfall.io/art_crop/front/\","
+			+ "\"border_crop\":\"https://cards.scryfall.io/border_crop/front/\"},\"mana_cost\":\"\",\"cmc\":,"
+			+ "\"type_line\":\"\",\"oracle_text\":\"\",\"colors\":[],\"color_identity\":[],"
+			+ "\"legalities\":{" + playFormatFields() + "},\"games\":[],\"reserved\":,\"foil\":,\"nonfoil\":,"
+			+ "\"finishes\":[],\"oversized\":,\"promo\":,\"reprint\":,\"variation\":,\"set_id\":\"\",\"set\":\"\","
+			+ "\"set_name\":\"\","
+			+ "\"set_uri\":\"https://api.scryfall.com/sets/\","
+			+ "\"set_search_uri\":\"https://api.scryfall.com/cards/search?order=set&q=e%3A\","
+			+ "\"scryfall_set_uri\":\"https://scryfall.com/sets/\","
+			+ "\"rulings_uri\":\"https://api.scryfall.com/cards/\","
+			+ "\"prints_search_uri\":\"https://api.scryfall.com/cards/search?order=released&q=oracleid%3A\","
+			+ "\"collector_number\":\"\",\"digital\":,\"rarity\":\"\",\"card_back_id\":\"\",\"artist\":\"\","
+			+ "\"artist_ids\":[\"\"],\"illustration_id\":\"\",\"full_art\":,\"textless\":,\"booster\":,"
+			+ "\"story_spotlight\":,\"edhrec_rank\":,\"penny_rank\":,\"prices\":{\"usd\":,\"usd_foil\":,"
+			+ "\"usd_etched\":,\"eur\":,\"eur_foil\":,\"tix\":},"
+			+ "\"related_uris\":{\"gatherer\":\"https://gatherer.wizards.com/Pages/Card/Details.aspx?multiverseid=\","
+			+ "\"edhrec\":\"https://edhrec.com/route/?cc=\"},"
+			+ "\"purchase_uris\":{\"tcgplayer\":\"https://\","
+			+ "\"cardmarket\":\"https://www.cardmarket.com/en/Magic/Products/Search?\","
+			+ "\"cardhoarder\":\"https://www.cardhoarder.com/cards/\"}}{\"object\":\"card\",\"id\":\"\","
+			+ "\"oracle_id\":\"\",\"name\":\"\",\"uri\":\"https://api.scryfall.com/cards/\","
+			+ "\"scryfall_uri\":\"https://scryfall.com/card/\",\"released_at\":\"\"")
+			.getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * @return the fields of the legalities object, taken from
+	 *         {@link PlayFormat} so that they follow the formats known to this
+	 *         version
+	 */
+	private static String playFormatFields() {
+		StringJoiner fields = new StringJoiner(",");
+		for (PlayFormat playFormat : PlayFormat.values()) {
+			if (playFormat != PlayFormat.DEFAULT && playFormat != PlayFormat.UNKNOWN) {
+				fields.add("\"" + playFormat.getId() + "\":\"\"");
+			}
+		}
+		return fields.toString();
+	}
+
+	private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(6));
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+	/**
+	 * @return the bytes to keep for the JSON or {@code null} if nothing is kept
+	 */
+	byte[] retain(String jsonString) {
+		if (jsonString == null || this == NONE) {
+			return null;
+		}
+		byte[] utf8 = jsonString.getBytes(StandardCharsets.UTF_8);
+		if (this == UTF8) {
+			return utf8;
+		}
+		Deflater deflater = DEFLATER.get();
+		deflater.reset();
+		deflater.setDictionary(DICTIONARY);
+		deflater.setInput(utf8);
+		deflater.finish();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 3 + 16);
+		out.write(DEFLATED);
+		byte[] buffer = new byte[1024];
+		while (!deflater.finished()) {
+			out.write(buffer, 0, deflater.deflate(buffer));
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param jsonBytes bytes kept by {@link #retain(String)}
+	 * @return {@code String jsonString} or {@code null} if nothing was kept
+	 */
+	static String restore(byte[] jsonBytes) {
+		if (jsonBytes == null) {
+			return null;
+		} else if (jsonBytes.length == 0 || jsonBytes[0] != DEFLATED) {
+			return new String(jsonBytes, StandardCharsets.UTF_8);
+		}
+		Inflater inflater = INFLATER.get();
+		inflater.reset();
+		inflater.setInput(jsonBytes, 1, jsonBytes.length - 1);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(jsonBytes.length * 4);
+		byte[] buffer = new byte[4096];
+		try {
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(buffer);
+				if (inflated == 0 && inflater.needsDictionary()) {
+					inflater.setDictionary(DICTIONARY);
+				} else if (inflated == 0 && inflater.needsInput()) {
+					throw new IllegalStateException("Truncated compressed JSON");
+				}
+				out.write(buffer, 0, inflated);
+			}
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Corrupt compressed JSON", e);
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
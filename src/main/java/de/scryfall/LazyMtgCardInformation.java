@@ -0,0 +1,1042 @@
+package de.scryfall;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.neovisionaries.i18n.LanguageCode;
+
+import de.scryfall.enums.BorderColor;
+import de.scryfall.enums.Frame;
+import de.scryfall.enums.FrameEffect;
+import de.scryfall.enums.Game;
+import de.scryfall.enums.ImageType;
+import de.scryfall.enums.Layout;
+import de.scryfall.enums.Legality;
+import de.scryfall.enums.PlayFormat;
+import de.scryfall.enums.PriceType;
+import de.scryfall.enums.Rarity;
+import de.scryfall.enums.RelatedSite;
+import de.scryfall.enums.Symbol;
+
+/**
+ * LazyMtgCardInformation is a card that only keeps its JSON as UTF-8 bytes
+ * and decodes its fields on first access. The fields are decoded in groups:
+ * identity (ids, name, set, collector number, language), faces and related
+ * cards, legalities, prices, urls and the remaining core fields. Reading the
+ * name and the prices of a card therefore never decodes its faces or urls.
+ * <p>
+ * Each group is decoded at most once, even if several threads read the same
+ * card concurrently, and is safely published to all of them. Like
+ * {@link MtgCardInformation}, a card must not be modified while other threads
+ * read it.
+ * <p>
+ * Equality is defined on the decoded fields, so a lazy card equals an
+ * eager {@link MtgCardInformation} with the same data. Comparing or hashing a
+ * card decodes all of its groups.
+ *
+ * @see https://scryfall.com/docs/api/cards
+ * @author QUE
+ *
+ */
+public class LazyMtgCardInformation extends MtgCardInformation {
+	private static final int IDENTITY = 1;
+	private static final int CORE = 1 << 1;
+	private static final int FACES = 1 << 2;
+	private static final int LEGALITIES = 1 << 3;
+	private static final int PRICES = 1 << 4;
+	private static final int URLS = 1 << 5;
+	private static final int ALL = (1 << 6) - 1;
+	private static final Map<Integer, Set<String>> GROUP_FIELDS = Map.of(
+			IDENTITY, Set.of("id", "oracle_id", "name", "set", "set_name", "collector_number", "lang"),
+			CORE, Set.of("arena_id", "mtgo_id", "mtgo_foil_id", "multiverse_ids", "tcgplayer_id", "cmc", "colors",
+					"color_identity", "color_indicator", "edhrec_rank", "foil", "hand_modifier", "layout",
+					"life_modifier", "loyalty", "mana_cost", "nonfoil", "oracle_text", "oversized", "power",
+					"reserved", "toughness", "type_line", "artist", "border_color", "digital", "flavor_text",
+					"frame_effect", "frame", "full_art", "games", "highres_image", "illustration_id", "printed_name",
+					"printed_text", "printed_type_line", "promo", "rarity", "released_at", "reprint",
+					"story_spotlight", "watermark"),
+			FACES, Set.of("all_parts", "card_faces"),
+			LEGALITIES, Set.of("legalities"),
+			PRICES, Set.of("prices"),
+			URLS, Set.of("prints_search_uri", "rulings_uri", "scryfall_uri", "uri", "image_uris", "purchase_uris",
+					"related_uris", "scryfall_set_uri", "set_search_uri", "set_uri"));
+
+	/**
+	 * Volatile, as {@link #setJsonString(String)} may replace the JSON while
+	 * another thread decodes from it.
+	 */
+	private volatile byte[] json;
+	private volatile int decoded;
+
+	/**
+	 * @param jsonString JSON of a single card object; it is not validated until
+	 *                   the first field is decoded
+	 */
+	public LazyMtgCardInformation(String jsonString) {
+		this(jsonString.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LazyMtgCardInformation(JsonObject jObject) {
+		this(jObject.toString());
+	}
+
+	/**
+	 * @param json UTF-8 encoded JSON of a single card object, which is kept
+	 *             without a copy
+	 */
+	LazyMtgCardInformation(byte[] json) {
+		this.json = json;
+	}
+
+	/**
+	 * Decodes the given groups unless they have been decoded already. The
+	 * volatile write of {@code decoded} publishes the fields to every thread
+	 * that reads it afterwards.
+	 *
+	 * @throws UncheckedIOException if the JSON is malformed
+	 */
+	private void decode(int groups) {
+		if ((decoded & groups) != groups) {
+			decodeMissing(groups);
+		}
+	}
+
+	/**
+	 * Decodes all missing groups in a single pass over the JSON.
+	 */
+	private synchronized void decodeMissing(int groups) {
+		int missing = groups & ~decoded;
+		if (missing == 0) {
+			return;
+		}
+		Set<String> fields = new HashSet<>();
+		for (Map.Entry<Integer, Set<String>> entry : GROUP_FIELDS.entrySet()) {
+			if ((missing & entry.getKey()) != 0) {
+				fields.addAll(entry.getValue());
+			}
+		}
+		MtgCardInformation card;
+		try (JsonReader jsonReader = new JsonReader(
+				new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+			card = new JsonBinder(jsonReader).readCard(fields);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Malformed card JSON", e);
+		}
+		if ((missing & IDENTITY) != 0) {
+			super.setCollectorNumber(card.getCollectorNumber());
+			super.setId(card.getId());
+			super.setLanguageCode(card.getLanguageCode());
+			super.setName(card.getName());
+			super.setOracleId(card.getOracleId());
+			super.setSetCode(card.getSetCode());
+			super.setSetName(card.getSetName());
+		}
+		if ((missing & CORE) != 0) {
+			super.setArenaId(card.getArenaId());
+			super.setArtist(card.getArtist());
+			super.setBorderColor(card.getBorderColor());
+			super.setCmc(card.getCmc());
+			super.setColorIdentityMask(card.getColorIdentityMask());
+			super.setColorIndicatorMask(card.getColorIndicatorMask());
+			super.setColorsMask(card.getColorsMask());
+			super.setEdhrecRank(card.getEdhrecRank());
+			super.setFlavorText(card.getFlavorText());
+			super.setFrame(card.getFrame());
+			super.setFrameEffect(card.getFrameEffect());
+			super.setHandModifier(card.getHandModifier());
+			super.setIllustrationId(card.getIllustrationId());
+			super.setLayout(card.getLayout());
+			super.setLifeModifier(card.getLifeModifier());
+			super.setListGames(card.getListGames());
+			super.setListMultiverseIds(card.getListMultiverseIds());
+			super.setLoyalty(card.getLoyalty());
+			super.setManaCost(card.getManaCost());
+			super.setMtgoFoilId(card.getMtgoFoilId());
+			super.setMtgoId(card.getMtgoId());
+			super.setOracleText(card.getOracleText());
+			super.setPower(card.getPower());
+			super.setPrintedName(card.getPrintedName());
+			super.setPrintedText(card.getPrintedText());
+			super.setPrintedTypeLine(card.getPrintedTypeLine());
+			super.setRarity(card.getRarity());
+			super.setReleaseDate(card.getReleaseDate());
+			super.setTcgPlayerId(card.getTcgPlayerId());
+			super.setToughness(card.getToughness());
+			super.setTypeLine(card.getTypeLine());
+			super.setWatermark(card.getWatermark());
+			super.setDigitalCard(card.isDigitalCard());
+			super.setFoilExists(card.isFoilExists());
+			super.setFullArt(card.isFullArt());
+			super.setHighResImageAvailable(card.isHighResImageAvailable());
+			super.setNonFoilExists(card.isNonFoilExists());
+			super.setOversized(card.isOversized());
+			super.setPromo(card.isPromo());
+			super.setReprint(card.isReprint());
+			super.setReserved(card.isReserved());
+			super.setStorySpotlight(card.isStorySpotlight());
+		}
+		if ((missing & FACES) != 0) {
+			super.setListAllParts(card.getListAllParts());
+			super.setListCardFaces(card.getListCardFaces());
+		}
+		if ((missing & LEGALITIES) != 0) {
+			super.setLegalityVector(card.legalityVector());
+		}
+		if ((missing & PRICES) != 0) {
+			for (PriceType priceType : PriceType.values()) {
+				super.setPrice(priceType, card.getPrice(priceType));
+			}
+		}
+		if ((missing & URLS) != 0) {
+			super.setMapImageUrls(card.getMapImageUrls());
+			super.setMapRelatedUrls(card.getMapRelatedUrls());
+			super.setPrintsApiSearchUrl(card.getPrintsApiSearchUrl());
+			super.setRulingsApiUrl(card.getRulingsApiUrl());
+			super.setSelfApiUrl(card.getSelfApiUrl());
+			super.setSelfScryfallUrl(card.getSelfScryfallUrl());
+			super.setSetApiSearchUrl(card.getSetApiSearchUrl());
+			super.setSetApiUrl(card.getSetApiUrl());
+			super.setSetScryfallUrl(card.getSetScryfallUrl());
+		}
+		decoded |= missing;
+	}
+
+	/**
+	 * @return the JSON this card decodes its fields from, regardless of the
+	 *         {@link JsonRetention}
+	 */
+	@Override
+	public String getJsonString() {
+		return json != null ? new String(json, StandardCharsets.UTF_8) : null;
+	}
+
+	/**
+	 * Decodes all fields before replacing the JSON, which is not read again.
+	 */
+	@Override
+	public void setJsonString(String jsonString) {
+		decode(ALL);
+		this.json = jsonString != null ? jsonString.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	@Override
+	public int getArenaId() {
+		decode(CORE);
+		return super.getArenaId();
+	}
+
+	@Override
+	public String getArtist() {
+		decode(CORE);
+		return super.getArtist();
+	}
+
+	@Override
+	public BorderColor getBorderColor() {
+		decode(CORE);
+		return super.getBorderColor();
+	}
+
+	@Override
+	public double getCmc() {
+		decode(CORE);
+		return super.getCmc();
+	}
+
+	@Override
+	public String getCollectorNumber() {
+		decode(IDENTITY);
+		return super.getCollectorNumber();
+	}
+
+	@Override
+	public int getColorIdentityMask() {
+		decode(CORE);
+		return super.getColorIdentityMask();
+	}
+
+	@Override
+	public int getColorIndicatorMask() {
+		decode(CORE);
+		return super.getColorIndicatorMask();
+	}
+
+	@Override
+	public int getColorsMask() {
+		decode(CORE);
+		return super.getColorsMask();
+	}
+
+	@Override
+	public int getEdhrecRank() {
+		decode(CORE);
+		return super.getEdhrecRank();
+	}
+
+	@Override
+	public String getFlavorText() {
+		decode(CORE);
+		return super.getFlavorText();
+	}
+
+	@Override
+	public Frame getFrame() {
+		decode(CORE);
+		return super.getFrame();
+	}
+
+	@Override
+	public FrameEffect getFrameEffect() {
+		decode(CORE);
+		return super.getFrameEffect();
+	}
+
+	@Override
+	public String getHandModifier() {
+		decode(CORE);
+		return super.getHandModifier();
+	}
+
+	@Override
+	public String getId() {
+		decode(IDENTITY);
+		return super.getId();
+	}
+
+	@Override
+	public String getIllustrationId() {
+		decode(CORE);
+		return super.getIllustrationId();
+	}
+
+	@Override
+	public LanguageCode getLanguageCode() {
+		decode(IDENTITY);
+		return super.getLanguageCode();
+	}
+
+	@Override
+	public Layout getLayout() {
+		decode(CORE);
+		return super.getLayout();
+	}
+
+	@Override
+	public String getLifeModifier() {
+		decode(CORE);
+		return super.getLifeModifier();
+	}
+
+	@Override
+	public List<RelatedCard> getListAllParts() {
+		decode(FACES);
+		return super.getListAllParts();
+	}
+
+	@Override
+	public List<CardFace> getListCardFaces() {
+		decode(FACES);
+		return super.getListCardFaces();
+	}
+
+	@Override
+	public List<Symbol> getListColorIdentities() {
+		decode(CORE);
+		return super.getListColorIdentities();
+	}
+
+	@Override
+	public List<Symbol> getListColorIndicators() {
+		decode(CORE);
+		return super.getListColorIndicators();
+	}
+
+	@Override
+	public List<Symbol> getListColors() {
+		decode(CORE);
+		return super.getListColors();
+	}
+
+	@Override
+	public List<Game> getListGames() {
+		decode(CORE);
+		return super.getListGames();
+	}
+
+	@Override
+	public List<Integer> getListMultiverseIds() {
+		decode(CORE);
+		return super.getListMultiverseIds();
+	}
+
+	@Override
+	public String getLoyalty() {
+		decode(CORE);
+		return super.getLoyalty();
+	}
+
+	@Override
+	public String getManaCost() {
+		decode(CORE);
+		return super.getManaCost();
+	}
+
+	@Override
+	public Map<ImageType, String> getMapImageUrls() {
+		decode(URLS);
+		return super.getMapImageUrls();
+	}
+
+	@Override
+	public Map<PlayFormat, Legality> getMapLegality() {
+		decode(LEGALITIES);
+		return super.getMapLegality();
+	}
+
+	@Override
+	long[] legalityVector() {
+		decode(LEGALITIES);
+		return super.legalityVector();
+	}
+
+	@Override
+	public Map<PriceType, BigDecimal> getMapPricing() {
+		decode(PRICES);
+		return super.getMapPricing();
+	}
+
+	@Override
+	long[] prices() {
+		decode(PRICES);
+		return super.prices();
+	}
+
+	@Override
+	public Map<RelatedSite, String> getMapRelatedUrls() {
+		decode(URLS);
+		return super.getMapRelatedUrls();
+	}
+
+	@Override
+	public int getMtgoFoilId() {
+		decode(CORE);
+		return super.getMtgoFoilId();
+	}
+
+	@Override
+	public int getMtgoId() {
+		decode(CORE);
+		return super.getMtgoId();
+	}
+
+	@Override
+	public String getName() {
+		decode(IDENTITY);
+		return super.getName();
+	}
+
+	@Override
+	public String getOracleId() {
+		decode(IDENTITY);
+		return super.getOracleId();
+	}
+
+	@Override
+	public String getOracleText() {
+		decode(CORE);
+		return super.getOracleText();
+	}
+
+	@Override
+	public String getPower() {
+		decode(CORE);
+		return super.getPower();
+	}
+
+	@Override
+	public String getPrintedName() {
+		decode(CORE);
+		return super.getPrintedName();
+	}
+
+	@Override
+	public String getPrintedText() {
+		decode(CORE);
+		return super.getPrintedText();
+	}
+
+	@Override
+	public String getPrintedTypeLine() {
+		decode(CORE);
+		return super.getPrintedTypeLine();
+	}
+
+	@Override
+	public String getPrintsApiSearchUrl() {
+		decode(URLS);
+		return super.getPrintsApiSearchUrl();
+	}
+
+	@Override
+	public Rarity getRarity() {
+		decode(CORE);
+		return super.getRarity();
+	}
+
+	@Override
+	public LocalDate getReleaseDate() {
+		decode(CORE);
+		return super.getReleaseDate();
+	}
+
+	@Override
+	public String getRulingsApiUrl() {
+		decode(URLS);
+		return super.getRulingsApiUrl();
+	}
+
+	@Override
+	public String getSelfApiUrl() {
+		decode(URLS);
+		return super.getSelfApiUrl();
+	}
+
+	@Override
+	public String getSelfScryfallUrl() {
+		decode(URLS);
+		return super.getSelfScryfallUrl();
+	}
+
+	@Override
+	public String getSetApiSearchUrl() {
+		decode(URLS);
+		return super.getSetApiSearchUrl();
+	}
+
+	@Override
+	public String getSetApiUrl() {
+		decode(URLS);
+		return super.getSetApiUrl();
+	}
+
+	@Override
+	public String getSetCode() {
+		decode(IDENTITY);
+		return super.getSetCode();
+	}
+
+	@Override
+	public String getSetName() {
+		decode(IDENTITY);
+		return super.getSetName();
+	}
+
+	@Override
+	public String getSetScryfallUrl() {
+		decode(URLS);
+		return super.getSetScryfallUrl();
+	}
+
+	@Override
+	public int getTcgPlayerId() {
+		decode(CORE);
+		return super.getTcgPlayerId();
+	}
+
+	@Override
+	public String getToughness() {
+		decode(CORE);
+		return super.getToughness();
+	}
+
+	@Override
+	public String getTypeLine() {
+		decode(CORE);
+		return super.getTypeLine();
+	}
+
+	@Override
+	public String getWatermark() {
+		decode(CORE);
+		return super.getWatermark();
+	}
+
+	@Override
+	public boolean isDigitalCard() {
+		decode(CORE);
+		return super.isDigitalCard();
+	}
+
+	@Override
+	public boolean isFoilExists() {
+		decode(CORE);
+		return super.isFoilExists();
+	}
+
+	@Override
+	public boolean isFullArt() {
+		decode(CORE);
+		return super.isFullArt();
+	}
+
+	@Override
+	public boolean isHighResImageAvailable() {
+		decode(CORE);
+		return super.isHighResImageAvailable();
+	}
+
+	@Override
+	public boolean isNonFoilExists() {
+		decode(CORE);
+		return super.isNonFoilExists();
+	}
+
+	@Override
+	public boolean isOversized() {
+		decode(CORE);
+		return super.isOversized();
+	}
+
+	@Override
+	public boolean isPromo() {
+		decode(CORE);
+		return super.isPromo();
+	}
+
+	@Override
+	public boolean isReprint() {
+		decode(CORE);
+		return super.isReprint();
+	}
+
+	@Override
+	public boolean isReserved() {
+		decode(CORE);
+		return super.isReserved();
+	}
+
+	@Override
+	public boolean isStorySpotlight() {
+		decode(CORE);
+		return super.isStorySpotlight();
+	}
+
+	@Override
+	public void setArenaId(int arenaId) {
+		decode(CORE);
+		super.setArenaId(arenaId);
+	}
+
+	@Override
+	public void setArtist(String artist) {
+		decode(CORE);
+		super.setArtist(artist);
+	}
+
+	@Override
+	public void setBorderColor(BorderColor borderColor) {
+		decode(CORE);
+		super.setBorderColor(borderColor);
+	}
+
+	@Override
+	public void setCmc(double cmc) {
+		decode(CORE);
+		super.setCmc(cmc);
+	}
+
+	@Override
+	public void setCollectorNumber(String collectorNumber) {
+		decode(IDENTITY);
+		super.setCollectorNumber(collectorNumber);
+	}
+
+	@Override
+	public void setColorIdentityMask(int colorMask) {
+		decode(CORE);
+		super.setColorIdentityMask(colorMask);
+	}
+
+	@Override
+	public void setColorIndicatorMask(int colorMask) {
+		decode(CORE);
+		super.setColorIndicatorMask(colorMask);
+	}
+
+	@Override
+	public void setColorsMask(int colorMask) {
+		decode(CORE);
+		super.setColorsMask(colorMask);
+	}
+
+	@Override
+	public void setEdhrecRank(int edhrecRank) {
+		decode(CORE);
+		super.setEdhrecRank(edhrecRank);
+	}
+
+	@Override
+	public void setFlavorText(String flavorText) {
+		decode(CORE);
+		super.setFlavorText(flavorText);
+	}
+
+	@Override
+	public void setFrame(Frame frame) {
+		decode(CORE);
+		super.setFrame(frame);
+	}
+
+	@Override
+	public void setFrameEffect(FrameEffect frameEffect) {
+		decode(CORE);
+		super.setFrameEffect(frameEffect);
+	}
+
+	@Override
+	public void setHandModifier(String handModifier) {
+		decode(CORE);
+		super.setHandModifier(handModifier);
+	}
+
+	@Override
+	public void setId(String id) {
+		decode(IDENTITY);
+		super.setId(id);
+	}
+
+	@Override
+	public void setIllustrationId(String illustrationId) {
+		decode(CORE);
+		super.setIllustrationId(illustrationId);
+	}
+
+	@Override
+	public void setLanguageCode(LanguageCode languageCode) {
+		decode(IDENTITY);
+		super.setLanguageCode(languageCode);
+	}
+
+	@Override
+	public void setLayout(Layout layout) {
+		decode(CORE);
+		super.setLayout(layout);
+	}
+
+	@Override
+	public void setLifeModifier(String lifeModifier) {
+		decode(CORE);
+		super.setLifeModifier(lifeModifier);
+	}
+
+	@Override
+	public void setListAllParts(List<RelatedCard> listAllParts) {
+		decode(FACES);
+		super.setListAllParts(listAllParts);
+	}
+
+	@Override
+	public void setListCardFaces(List<CardFace> listCardFaces) {
+		decode(FACES);
+		super.setListCardFaces(listCardFaces);
+	}
+
+	@Override
+	public void setListColorIdentities(List<Symbol> listColorIdentities) {
+		decode(CORE);
+		super.setListColorIdentities(listColorIdentities);
+	}
+
+	@Override
+	public void setListColorIndicators(List<Symbol> listColorIndicators) {
+		decode(CORE);
+		super.setListColorIndicators(listColorIndicators);
+	}
+
+	@Override
+	public void setListColors(List<Symbol> listColors) {
+		decode(CORE);
+		super.setListColors(listColors);
+	}
+
+	@Override
+	public void setListGames(List<Game> listGames) {
+		decode(CORE);
+		super.setListGames(listGames);
+	}
+
+	@Override
+	public void setListMultiverseIds(List<Integer> listMultiverseIds) {
+		decode(CORE);
+		super.setListMultiverseIds(listMultiverseIds);
+	}
+
+	@Override
+	public void setLoyalty(String loyalty) {
+		decode(CORE);
+		super.setLoyalty(loyalty);
+	}
+
+	@Override
+	public void setManaCost(String manaCost) {
+		decode(CORE);
+		super.setManaCost(manaCost);
+	}
+
+	@Override
+	public void setMapImageUrls(Map<ImageType, String> mapImageUrls) {
+		decode(URLS);
+		super.setMapImageUrls(mapImageUrls);
+	}
+
+	@Override
+	public void setMapLegality(Map<PlayFormat, Legality> mapLegality) {
+		decode(LEGALITIES);
+		super.setMapLegality(mapLegality);
+	}
+
+	@Override
+	public void setLegalityVector(long[] legalityVector) {
+		decode(LEGALITIES);
+		super.setLegalityVector(legalityVector);
+	}
+
+	@Override
+	public void setMapPricing(Map<PriceType, BigDecimal> mapPricing) {
+		decode(PRICES);
+		super.setMapPricing(mapPricing);
+	}
+
+	@Override
+	public void setPrice(PriceType priceType, long price) {
+		decode(PRICES);
+		super.setPrice(priceType, price);
+	}
+
+	@Override
+	public void setMapRelatedUrls(Map<RelatedSite, String> mapRelatedUrls) {
+		decode(URLS);
+		super.setMapRelatedUrls(mapRelatedUrls);
+	}
+
+	@Override
+	public void setMtgoFoilId(int mtgoFoilId) {
+		decode(CORE);
+		super.setMtgoFoilId(mtgoFoilId);
+	}
+
+	@Override
+	public void setMtgoId(int mtgoId) {
+		decode(CORE);
+		super.setMtgoId(mtgoId);
+	}
+
+	@Override
+	public void setName(String name) {
+		decode(IDENTITY);
+		super.setName(name);
+	}
+
+	@Override
+	public void setOracleId(String oracleId) {
+		decode(IDENTITY);
+		super.setOracleId(oracleId);
+	}
+
+	@Override
+	public void setOracleText(String oracleText) {
+		decode(CORE);
+		super.setOracleText(oracleText);
+	}
+
+	@Override
+	public void setPower(String power) {
+		decode(CORE);
+		super.setPower(power);
+	}
+
+	@Override
+	public void setPrintedName(String printedName) {
+		decode(CORE);
+		super.setPrintedName(printedName);
+	}
+
+	@Override
+	public void setPrintedText(String printedText) {
+		decode(CORE);
+		super.setPrintedText(printedText);
+	}
+
+	@Override
+	public void setPrintedTypeLine(String printedTypeLine) {
+		decode(CORE);
+		super.setPrintedTypeLine(printedTypeLine);
+	}
+
+	@Override
+	public void setPrintsApiSearchUrl(String printsApiSearchUrl) {
+		decode(URLS);
+		super.setPrintsApiSearchUrl(printsApiSearchUrl);
+	}
+
+	@Override
+	public void setRarity(Rarity rarity) {
+		decode(CORE);
+		super.setRarity(rarity);
+	}
+
+	@Override
+	public void setReleaseDate(LocalDate releaseDate) {
+		decode(CORE);
+		super.setReleaseDate(releaseDate);
+	}
+
+	@Override
+	public void setRulingsApiUrl(String rulingsApiUrl) {
+		decode(URLS);
+		super.setRulingsApiUrl(rulingsApiUrl);
+	}
+
+	@Override
+	public void setSelfApiUrl(String selfApiUrl) {
+		decode(URLS);
+		super.setSelfApiUrl(selfApiUrl);
+	}
+
+	@Override
+	public void setSelfScryfallUrl(String selfScryfallUrl) {
+		decode(URLS);
+		super.setSelfScryfallUrl(selfScryfallUrl);
+	}
+
+	@Override
+	public void setSetApiSearchUrl(String setApiSearchUrl) {
+		decode(URLS);
+		super.setSetApiSearchUrl(setApiSearchUrl);
+	}
+
+	@Override
+	public void setSetApiUrl(String setApiUrl) {
+		decode(URLS);
+		super.setSetApiUrl(setApiUrl);
+	}
+
+	@Override
+	public void setSetCode(String setCode) {
+		decode(IDENTITY);
+		super.setSetCode(setCode);
+	}
+
+	@Override
+	public void setSetName(String setName) {
+		decode(IDENTITY);
+		super.setSetName(setName);
+	}
+
+	@Override
+	public void setSetScryfallUrl(String setScryfallUrl) {
+		decode(URLS);
+		super.setSetScryfallUrl(setScryfallUrl);
+	}
+
+	@Override
+	public void setTcgPlayerId(int tcgPlayerId) {
+		decode(CORE);
+		super.setTcgPlayerId(tcgPlayerId);
+	}
+
+	@Override
+	public void setToughness(String toughness) {
+		decode(CORE);
+		super.setToughness(toughness);
+	}
+
+	@Override
+	public void setTypeLine(String typeLine) {
+		decode(CORE);
+		super.setTypeLine(typeLine);
+	}
+
+	@Override
+	public void setWatermark(String watermark) {
+		decode(CORE);
+		super.setWatermark(watermark);
+	}
+
+	@Override
+	public void setDigitalCard(boolean digitalCard) {
+		decode(CORE);
+		super.setDigitalCard(digitalCard);
+	}
+
+	@Override
+	public void setFoilExists(boolean foilExists) {
+		decode(CORE);
+		super.setFoilExists(foilExists);
+	}
+
+	@Override
+	public void setFullArt(boolean fullArt) {
+		decode(CORE);
+		super.setFullArt(fullArt);
+	}
+
+	@Override
+	public void setHighResImageAvailable(boolean highResImageAvailable) {
+		decode(CORE);
+		super.setHighResImageAvailable(highResImageAvailable);
+	}
+
+	@Override
+	public void setNonFoilExists(boolean nonFoilExists) {
+		decode(CORE);
+		super.setNonFoilExists(nonFoilExists);
+	}
+
+	@Override
+	public void setOversized(boolean oversized) {
+		decode(CORE);
+		super.setOversized(oversized);
+	}
+
+	@Override
+	public void setPromo(boolean promo) {
+		decode(CORE);
+		super.setPromo(promo);
+	}
+
+	@Override
+	public void setReprint(boolean reprint) {
+		decode(CORE);
+		super.setReprint(reprint);
+	}
+
+	@Override
+	public void setReserved(boolean reserved) {
+		decode(CORE);
+		super.setReserved(reserved);
+	}
+
+	@Override
+	public void setStorySpotlight(boolean storySpotlight) {
+		decode(CORE);
+		super.setStorySpotlight(storySpotlight);
+	}
+
+	@Override
+	public String toString() {
+		decode(ALL);
+		return super.toString();
+	}
+}
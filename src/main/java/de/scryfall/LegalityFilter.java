@@ -0,0 +1,269 @@
+package de.scryfall;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import de.scryfall.enums.Legality;
+import de.scryfall.enums.PlayFormat;
+
+/**
+ * LegalityFilter selects cards by their legality in several play formats at
+ * once, e.g. all cards legal in both Modern and Pauper. It tests the legality
+ * vector of a card ({@link MtgCardInformation#getLegalityVector()}) for all
+ * formats with a shift and a mask per format instead of a map lookup per
+ * format. Whole collections are filtered in a single loop over their vectors, which
+ * can be extracted once with {@link #legalityVectors(List)} and reused for
+ * any number of filters.
+ *
+ * @see https://scryfall.com/docs/api/cards
+ * @author QUE
+ *
+ */
+public class LegalityFilter implements Predicate<MtgCardInformation> {
+	private static final long CODE_MASK = (1L << Legality.CODE_BITS) - 1;
+
+	/**
+	 * Formats the filter constrains.
+	 */
+	private final Set<PlayFormat> playFormats;
+	/**
+	 * Bit {@link Legality#getCode()} of every accepted legality, per format
+	 * ordinal.
+	 */
+	private final int[] acceptedCodes;
+
+	/*
+	 * The constrained formats as test visits them: their word and shift in a
+	 * legality vector and their accepted codes.
+	 */
+	private final int[] words;
+	private final int[] shifts;
+	private final int[] masks;
+
+	/**
+	 * Cards that may be played in all of the formats, which includes cards
+	 * restricted in them.
+	 *
+	 * @param playFormats
+	 * @return {@code LegalityFilter legalityFilter}
+	 */
+	public static LegalityFilter legalIn(PlayFormat... playFormats) {
+		return new LegalityFilter(EnumSet.of(Legality.LEGAL, Legality.RESTRICTED), playFormats);
+	}
+
+	/**
+	 * Cards that have one of the legalities in each of the formats.
+	 *
+	 * @param legalities
+	 * @param playFormats
+	 */
+	public LegalityFilter(Set<Legality> legalities, PlayFormat... playFormats) {
+		this(playFormats.length > 0 ? EnumSet.copyOf(Arrays.asList(playFormats)) : EnumSet.noneOf(PlayFormat.class),
+				acceptedCodes(legalities, playFormats));
+	}
+
+	private LegalityFilter(Set<PlayFormat> playFormats, int[] acceptedCodes) {
+		this.playFormats = playFormats;
+		this.acceptedCodes = acceptedCodes;
+		this.words = new int[playFormats.size()];
+		this.shifts = new int[playFormats.size()];
+		this.masks = new int[playFormats.size()];
+		int i = 0;
+		for (PlayFormat playFormat : playFormats) {
+			words[i] = Legality.wordIndex(playFormat);
+			shifts[i] = Legality.codeShift(playFormat);
+			masks[i++] = acceptedCodes[playFormat.ordinal()];
+		}
+	}
+
+	private static int[] acceptedCodes(Set<Legality> legalities, PlayFormat... playFormats) {
+		int[] acceptedCodes = new int[PlayFormat.values().length];
+		for (PlayFormat playFormat : playFormats) {
+			for (Legality legality : legalities) {
+				if (legality != Legality.UNKNOWN) {
+					acceptedCodes[playFormat.ordinal()] |= 1 << legality.getCode();
+				}
+			}
+		}
+		return acceptedCodes;
+	}
+
+	/**
+	 * @param other
+	 * @return {@code LegalityFilter legalityFilter} accepting the cards accepted
+	 *         by both filters
+	 */
+	public LegalityFilter and(LegalityFilter other) {
+		Set<PlayFormat> playFormats = EnumSet.noneOf(PlayFormat.class);
+		playFormats.addAll(this.playFormats);
+		playFormats.addAll(other.playFormats);
+		int[] acceptedCodes = new int[this.acceptedCodes.length];
+		for (PlayFormat playFormat : playFormats) {
+			int i = playFormat.ordinal();
+			if (!other.playFormats.contains(playFormat)) {
+				acceptedCodes[i] = this.acceptedCodes[i];
+			} else if (!this.playFormats.contains(playFormat)) {
+				acceptedCodes[i] = other.acceptedCodes[i];
+			} else {
+				acceptedCodes[i] = this.acceptedCodes[i] & other.acceptedCodes[i];
+			}
+		}
+		return new LegalityFilter(playFormats, acceptedCodes);
+	}
+
+	/**
+	 * @param legalityVector
+	 * @return {@code true} if the vector matches the filter
+	 * @see Legality#toLegalityVector(java.util.Map)
+	 */
+	public boolean test(long[] legalityVector) {
+		return test(legalityVector, 0);
+	}
+
+	/**
+	 * Takes the code of every constrained format from the vector and looks it up
+	 * in the bit mask of the codes accepted for the format, without branching
+	 * on the outcome of each format.
+	 *
+	 * @param legalityVectors
+	 * @param offset          index of the first word of the vector
+	 * @return {@code true} if the vector matches the filter
+	 */
+	private boolean test(long[] legalityVectors, int offset) {
+		int accepted = 1;
+		for (int i = 0; i < words.length; i++) {
+			accepted &= masks[i] >>> (legalityVectors[offset + words[i]] >>> shifts[i] & CODE_MASK);
+		}
+		return accepted != 0;
+	}
+
+	@Override
+	public boolean test(MtgCardInformation card) {
+		return test(card.legalityVector(), 0);
+	}
+
+	/**
+	 * @param legalityVectors vectors of {@link Legality#VECTOR_LENGTH} words
+	 *                        one after another, as returned by
+	 *                        {@link #legalityVectors(List)}
+	 * @return {@code BitSet matching} with the indices of the vectors that match
+	 *         the filter
+	 */
+	public BitSet matching(long[] legalityVectors) {
+		int vectors = legalityVectors.length / Legality.VECTOR_LENGTH;
+		BitSet matching = new BitSet(vectors);
+		for (int i = 0; i < vectors; i++) {
+			if (test(legalityVectors, i * Legality.VECTOR_LENGTH)) {
+				matching.set(i);
+			}
+		}
+		return matching;
+	}
+
+	/**
+	 * @param legalityVectors vectors of {@link Legality#VECTOR_LENGTH} words
+	 *                        one after another, as returned by
+	 *                        {@link #legalityVectors(List)}
+	 * @return {@code int count} of the vectors that match the filter
+	 */
+	public int count(long[] legalityVectors) {
+		int vectors = legalityVectors.length / Legality.VECTOR_LENGTH;
+		int count = 0;
+		for (int i = 0; i < vectors; i++) {
+			if (test(legalityVectors, i * Legality.VECTOR_LENGTH)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @param cards
+	 * @return a new {@code List<T> listCards} of the cards that match the filter
+	 *         in their original order
+	 */
+	public <T extends MtgCardInformation> List<T> filter(Collection<T> cards) {
+		List<T> listCards = new ArrayList<>();
+		for (T card : cards) {
+			if (test(card.legalityVector(), 0)) {
+				listCards.add(card);
+			}
+		}
+		return listCards;
+	}
+
+	/**
+	 * @param cards
+	 * @return {@code long[] legalityVectors} of the cards, in the same order,
+	 *         with {@link Legality#VECTOR_LENGTH} words per card
+	 */
+	public static long[] legalityVectors(List<? extends MtgCardInformation> cards) {
+		long[] legalityVectors = new long[cards.size() * Legality.VECTOR_LENGTH];
+		int offset = 0;
+		for (MtgCardInformation card : cards) {
+			System.arraycopy(card.legalityVector(), 0, legalityVectors, offset, Legality.VECTOR_LENGTH);
+			offset += Legality.VECTOR_LENGTH;
+		}
+		return legalityVectors;
+	}
+
+	/**
+	 * @return {@code Map<PlayFormat, Set<Legality>> mapLegalities} accepted per
+	 *         constrained format
+	 */
+	public Map<PlayFormat, Set<Legality>> getMapLegalities() {
+		Map<PlayFormat, Set<Legality>> mapLegalities = new EnumMap<>(PlayFormat.class);
+		for (PlayFormat playFormat : playFormats) {
+			Set<Legality> legalities = EnumSet.noneOf(Legality.class);
+			for (Legality legality : Legality.values()) {
+				int code = legality.getCode();
+				if (code != 0 && (acceptedCodes[playFormat.ordinal()] >>> code & 1) != 0) {
+					legalities.add(legality);
+				}
+			}
+			mapLegalities.put(playFormat, legalities);
+		}
+		return mapLegalities;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Arrays.hashCode(acceptedCodes);
+		result = prime * result + ((playFormats == null) ? 0 : playFormats.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LegalityFilter other = (LegalityFilter) obj;
+		if (!Arrays.equals(acceptedCodes, other.acceptedCodes))
+			return false;
+		if (playFormats == null) {
+			if (other.playFormats != null)
+				return false;
+		} else if (!playFormats.equals(other.playFormats))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "LegalityFilter [mapLegalities=" + getMapLegalities() + "]";
+	}
+}
@@ -0,0 +1,57 @@
+package de.scryfall;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * MemoCache remembers the results of a conversion whose inputs repeat across
+ * many cards, such as release dates or language codes, so that each distinct
+ * input is converted only once. {@code null} results are remembered as well.
+ * <p>
+ * The cache holds at most about {@code maxSize} inputs; once it is full,
+ * further new inputs are converted without being remembered.
+ *
+ * @author QUE
+ *
+ * @param <K> input type
+ * @param <V> result type
+ */
+class MemoCache<K, V> {
+	private final int maxSize;
+	private final Function<K, V> function;
+	private final ConcurrentMap<K, Optional<V>> mapResults = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxSize  inputs remembered
+	 * @param function conversion, must be free of side effects apart from
+	 *                 logging
+	 */
+	MemoCache(int maxSize, Function<K, V> function) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.function = function;
+	}
+
+	/**
+	 * @param key
+	 * @return {@code V result} of the conversion or {@code null} if the key is
+	 *         {@code null}
+	 */
+	V get(K key) {
+		if (key == null) {
+			return null;
+		}
+		Optional<V> result = mapResults.get(key);
+		if (result == null) {
+			result = Optional.ofNullable(function.apply(key));
+			if (mapResults.size() < maxSize) {
+				mapResults.putIfAbsent(key, result);
+			}
+		}
+		return result.orElse(null);
+	}
+}
@@ -2,11 +2,13 @@ package de.scryfall;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.google.gson.JsonElement;
@@ -34,8 +36,18 @@ import de.scryfall.enums.Symbol;
  * @author QUE
  *
  */
-public class MtgCardInformation {
-	private String jsonString;
+public class MtgCardInformation implements Cloneable {
+	private static final String API_CARDS = "https://api.scryfall.com/cards/";
+	private static final String API_SETS = "https://api.scryfall.com/sets/";
+	private static final byte SELF_API_URL = 1;
+	private static final byte SELF_SCRYFALL_URL = 1 << 1;
+	private static final byte RULINGS_API_URL = 1 << 2;
+	private static final byte PRINTS_API_SEARCH_URL = 1 << 3;
+	private static final byte SET_API_URL = 1 << 4;
+	private static final byte SET_API_SEARCH_URL = 1 << 5;
+	private static final byte SET_SCRYFALL_URL = 1 << 6;
+
+	private byte[] jsonBytes;
 	private String id;
 	private int arenaId;
 	private int mtgoId;
@@ -52,14 +64,20 @@ public class MtgCardInformation {
 	private List<RelatedCard> listAllParts;
 	private List<CardFace> listCardFaces;
 	private double cmc;
-	private List<Symbol> listColors;
-	private List<Symbol> listColorIdentities;
-	private List<Symbol> listColorIndicators;
+	/**
+	 * Colors are kept as masks of {@link Symbol#getColorBit()}.
+	 */
+	private byte colors;
+	private byte colorIdentity;
+	private byte colorIndicator;
 	private int edhrecRank;
 	private boolean foilExists;
 	private String handModifier;
 	private Layout layout;
-	private Map<PlayFormat, Legality> mapLegality;
+	/**
+	 * Legalities are kept as a vector of {@link Legality#getCode()}.
+	 */
+	private long[] legalities = Legality.newLegalityVector();
 	private String lifeModifier;
 	private String loyalty;
 	private String manaCost;
@@ -84,7 +102,10 @@ public class MtgCardInformation {
 	private boolean highResImageAvailable;
 	private String illustrationId;
 	private Map<ImageType, String> mapImageUrls;
-	private Map<PriceType, BigDecimal> mapPricing;
+	/**
+	 * Prices in hundredths by {@link PriceType#ordinal()}, see {@link Prices}.
+	 */
+	private long[] prices = noPrices();
 	private String printedName;
 	private String printedText;
 	private String printedTypeLine;
@@ -100,140 +121,321 @@ public class MtgCardInformation {
 	private String setCode;
 	private boolean storySpotlight;
 	private String watermark;
+	private byte derivedUrls;
 
 	public MtgCardInformation(JsonObject jObject) {
-		this.jsonString = jObject.toString();
+		JsonRetention jsonRetention = Scryfall.getJsonRetention();
+		if (jsonRetention != JsonRetention.NONE) {
+			this.jsonBytes = jsonRetention.retain(jObject.toString());
+		}
 		this.id = JsonIO.parseString(jObject, "id");
 		this.arenaId = JsonIO.parseInteger(jObject, "arena_id");
 		this.mtgoId = JsonIO.parseInteger(jObject, "mtgo_id");
 		this.mtgoFoilId = JsonIO.parseInteger(jObject, "mtgo_foil_id");
 		this.listMultiverseIds = new ArrayList<>();
-		for (JsonElement jElement : jObject.get("multiverse_ids").getAsJsonArray()) {
-			listMultiverseIds.add(jElement.getAsInt());
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "multiverse_ids")) {
+			listMultiverseIds.add(JsonIO.toInteger(jElement));
 		}
 		this.tcgPlayerId = JsonIO.parseInteger(jObject, "tcgplayer_id");
-		this.oracleId = JsonIO.parseString(jObject, "oracle_id");
-		this.languageCode = ScryfallUtils.fromScryfallLanguageCode(JsonIO.parseString(jObject, "lang"));
-		this.printsApiSearchUrl = JsonIO.parseString(jObject, "prints_search_uri");
+		this.oracleId = JsonIO.parsePooledString(jObject, "oracle_id");
+		this.languageCode = JsonIO.parseLanguageCode(jObject, "lang");
+		this.printsApiSearchUrl = JsonIO.parsePooledString(jObject, "prints_search_uri");
 		this.rulingsApiUrl = JsonIO.parseString(jObject, "rulings_uri");
 		this.selfScryfallUrl = JsonIO.parseString(jObject, "scryfall_uri");
 		this.selfApiUrl = JsonIO.parseString(jObject, "uri");
 
+		// a nested value that fails is dropped instead of the whole card
+		List<CardDecodeError> listFailures = new ArrayList<>(0);
 		this.listAllParts = new ArrayList<>();
-		try {
-			for (JsonElement jElement : jObject.get("all_parts").getAsJsonArray()) {
-				listAllParts.add(new RelatedCard(jElement.getAsJsonObject()));
+		int i = 0;
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "all_parts")) {
+			try {
+				if (jElement.isJsonObject()) {
+					listAllParts.add(new RelatedCard(jElement.getAsJsonObject()));
+				}
+			} catch (RuntimeException e) {
+				listFailures.add(new CardDecodeError(null, null, "all_parts[" + i + "]", null, e));
 			}
-		} catch (NullPointerException e) {
-
+			i++;
 		}
 		this.listCardFaces = new ArrayList<>();
-		try {
-			for (JsonElement jElement : jObject.get("card_faces").getAsJsonArray()) {
-				listCardFaces.add(new CardFace(jElement.getAsJsonObject()));
+		i = 0;
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "card_faces")) {
+			try {
+				if (jElement.isJsonObject()) {
+					listCardFaces.add(new CardFace(jElement.getAsJsonObject()));
+				}
+			} catch (RuntimeException e) {
+				listFailures.add(new CardDecodeError(null, null, "card_faces[" + i + "]", null, e));
 			}
-		} catch (NullPointerException e) {
-
+			i++;
 		}
 		this.cmc = JsonIO.parseDouble(jObject, "cmc");
-		this.listColors = new ArrayList<>();
-		try {
-			for (JsonElement jElement : jObject.get("colors").getAsJsonArray()) {
-				listColors.add(Symbol.parseId(jElement.getAsString()));
-			}
-		} catch (NullPointerException e) {
-
-		}
-		this.listColorIdentities = new ArrayList<>();
-		for (JsonElement jElement : jObject.get("color_identity").getAsJsonArray()) {
-			listColorIdentities.add(Symbol.parseId(jElement.getAsString()));
-		}
-		this.listColorIndicators = new ArrayList<>();
-		try {
-			for (JsonElement jElement : jObject.get("color_indicator").getAsJsonArray()) {
-				listColorIndicators.add(Symbol.parseId(jElement.getAsString()));
-			}
-		} catch (NullPointerException e) {
-
-		}
+		this.colors = parseColorMask(jObject, "colors");
+		this.colorIdentity = parseColorMask(jObject, "color_identity");
+		this.colorIndicator = parseColorMask(jObject, "color_indicator");
 		this.edhrecRank = JsonIO.parseInteger(jObject, "edhrec_rank");
 		this.foilExists = JsonIO.parseBoolean(jObject, "foil");
-		this.handModifier = JsonIO.parseString(jObject, "hand_modifier");
-		this.layout = Layout.parseId(JsonIO.parseString(jObject, "layout"));
-		this.mapLegality = new HashMap<>();
-		JsonObject jLegalities = jObject.get("legalities").getAsJsonObject();
-		Set<String> setKeysLegalities = jLegalities.keySet();
-		for (String key : setKeysLegalities) {
-			mapLegality.put(PlayFormat.parseId(key), Legality.parseId(JsonIO.parseString(jLegalities, key)));
+		this.handModifier = JsonIO.parsePooledString(jObject, "hand_modifier");
+		String layout = JsonIO.parseString(jObject, "layout");
+		this.layout = layout != null ? Layout.parseId(layout) : null;
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "legalities")) {
+			PlayFormat playFormat = PlayFormat.parseId(entry.getKey());
+			// unknown keys would overwrite each other
+			if (playFormat != PlayFormat.UNKNOWN) {
+				Legality.put(legalities, playFormat, Legality.parseId(JsonIO.toString(entry.getValue())));
+			}
 		}
 
-		this.lifeModifier = JsonIO.parseString(jObject, "life_modifier");
-		this.loyalty = JsonIO.parseString(jObject, "loyality");
-		this.manaCost = JsonIO.parseString(jObject, "mana_cost");
-		this.name = JsonIO.parseString(jObject, "name");
+		this.lifeModifier = JsonIO.parsePooledString(jObject, "life_modifier");
+		this.loyalty = JsonIO.parsePooledString(jObject, "loyalty");
+		this.manaCost = JsonIO.parsePooledString(jObject, "mana_cost");
+		this.name = JsonIO.parsePooledString(jObject, "name");
 		this.nonFoilExists = JsonIO.parseBoolean(jObject, "nonfoil");
-		this.oracleText = JsonIO.parseString(jObject, "oracle_text");
+		this.oracleText = JsonIO.parsePooledString(jObject, "oracle_text");
 		this.oversized = JsonIO.parseBoolean(jObject, "oversized");
-		this.power = JsonIO.parseString(jObject, "power");
+		this.power = JsonIO.parsePooledString(jObject, "power");
 		this.reserved = JsonIO.parseBoolean(jObject, "reserved");
-		this.toughness = JsonIO.parseString(jObject, "toughness");
-		this.typeLine = JsonIO.parseString(jObject, "type_line");
+		this.toughness = JsonIO.parsePooledString(jObject, "toughness");
+		this.typeLine = JsonIO.parsePooledString(jObject, "type_line");
 
-		this.artist = JsonIO.parseString(jObject, "artist");
-		this.borderColor = BorderColor.parseId(JsonIO.parseString(jObject, "border_color"));
-		this.collectorNumber = JsonIO.parseString(jObject, "collector_number");
+		this.artist = JsonIO.parsePooledString(jObject, "artist");
+		String borderColor = JsonIO.parseString(jObject, "border_color");
+		this.borderColor = borderColor != null ? BorderColor.parseId(borderColor) : null;
+		this.collectorNumber = JsonIO.parsePooledString(jObject, "collector_number");
 		this.digitalCard = JsonIO.parseBoolean(jObject, "digital");
 		this.flavorText = JsonIO.parseString(jObject, "flavor_text");
-		try {
-			this.frameEffect = FrameEffect.parseId(JsonIO.parseString(jObject, "frame_effect"));
-		} catch (IllegalArgumentException e) {
-			this.frameEffect = null;
-		}
-		this.frame = Frame.parseId(JsonIO.parseString(jObject, "frame"));
+		String frameEffect = JsonIO.parseString(jObject, "frame_effect");
+		this.frameEffect = frameEffect != null ? FrameEffect.parseId(frameEffect) : null;
+		String frame = JsonIO.parseString(jObject, "frame");
+		this.frame = frame != null ? Frame.parseId(frame) : null;
 		this.fullArt = JsonIO.parseBoolean(jObject, "full_art");
 		this.listGames = new ArrayList<>();
-		for (JsonElement jElement : jObject.get("games").getAsJsonArray()) {
-			listGames.add(Game.parseId(jElement.getAsString()));
+		for (JsonElement jElement : JsonIO.parseArray(jObject, "games")) {
+			listGames.add(Game.parseId(JsonIO.toString(jElement)));
 		}
 		this.highResImageAvailable = JsonIO.parseBoolean(jObject, "highres_image");
-		this.illustrationId = JsonIO.parseString(jObject, "illustration_id");
-		this.mapImageUrls = new HashMap<>();
-		try {
-			for (String key : jObject.get("image_uris").getAsJsonObject().keySet()) {
-				mapImageUrls.put(ImageType.parseId(key),
-						JsonIO.parseString(jObject.get("image_uris").getAsJsonObject(), key));
+		this.illustrationId = JsonIO.parsePooledString(jObject, "illustration_id");
+		this.mapImageUrls = new EnumMap<>(ImageType.class);
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "image_uris")) {
+			ImageType imageType = ImageType.parseId(entry.getKey());
+			if (imageType != ImageType.UNKNOWN) {
+				mapImageUrls.put(imageType, JsonIO.toString(entry.getValue()));
 			}
-		} catch (NullPointerException e) {
-
 		}
-		this.mapPricing = new HashMap<>();
-		for (String key : jObject.get("prices").getAsJsonObject().keySet()) {
-			mapPricing.put(PriceType.parseId(key),
-					JsonIO.parseBigDecimal(jObject.get("prices").getAsJsonObject(), key));
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "prices")) {
+			PriceType priceType = PriceType.parseId(entry.getKey());
+			if (priceType != PriceType.UNKNOWN) {
+				prices[priceType.ordinal()] = Prices.parse(JsonIO.toString(entry.getValue()));
+			}
 		}
 		this.printedName = JsonIO.parseString(jObject, "printed_name");
 		this.printedText = JsonIO.parseString(jObject, "printed_text");
 		this.printedTypeLine = JsonIO.parseString(jObject, "printed_type_line");
 		this.promo = JsonIO.parseBoolean(jObject, "promo");
-		this.mapRelatedUrls = new HashMap<>();
-		for (String key : jObject.get("purchase_uris").getAsJsonObject().keySet()) {
-			mapRelatedUrls.put(RelatedSite.parseId(key),
-					JsonIO.parseString(jObject.get("related_uris").getAsJsonObject(), key));
+		this.mapRelatedUrls = new EnumMap<>(RelatedSite.class);
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "purchase_uris")) {
+			RelatedSite relatedSite = RelatedSite.parseId(entry.getKey());
+			if (relatedSite != RelatedSite.UNKNOWN) {
+				mapRelatedUrls.put(relatedSite, JsonIO.toString(entry.getValue()));
+			}
 		}
-		this.rarity = Rarity.parseId(JsonIO.parseString(jObject, "rarity"));
-		for (String key : jObject.get("related_uris").getAsJsonObject().keySet()) {
-			mapRelatedUrls.put(RelatedSite.parseId(key),
-					JsonIO.parseString(jObject.get("related_uris").getAsJsonObject(), key));
+		String rarity = JsonIO.parseString(jObject, "rarity");
+		this.rarity = rarity != null ? Rarity.parseId(rarity) : null;
+		for (Map.Entry<String, JsonElement> entry : JsonIO.parseEntries(jObject, "related_uris")) {
+			RelatedSite relatedSite = RelatedSite.parseId(entry.getKey());
+			if (relatedSite != RelatedSite.UNKNOWN) {
+				mapRelatedUrls.put(relatedSite, JsonIO.toString(entry.getValue()));
+			}
 		}
-		this.releaseDate = JsonIO.parseLocalDate(jObject, "released_at", DateTimeFormatter.ISO_DATE);
+		this.releaseDate = JsonIO.parseLocalDate(jObject, "released_at");
 		this.reprint = JsonIO.parseBoolean(jObject, "reprint");
-		this.setScryfallUrl = JsonIO.parseString(jObject, "scryfall_set_uri");
-		this.setName = JsonIO.parseString(jObject, "set_name");
-		this.setApiSearchUrl = JsonIO.parseString(jObject, "set_search_uri");
-		this.setApiUrl = JsonIO.parseString(jObject, "set_uri");
-		this.setCode = JsonIO.parseString(jObject, "set");
+		this.setScryfallUrl = JsonIO.parsePooledString(jObject, "scryfall_set_uri");
+		this.setName = JsonIO.parsePooledString(jObject, "set_name");
+		this.setApiSearchUrl = JsonIO.parsePooledString(jObject, "set_search_uri");
+		this.setApiUrl = JsonIO.parsePooledString(jObject, "set_uri");
+		this.setCode = JsonIO.parsePooledString(jObject, "set");
 		this.storySpotlight = JsonIO.parseBoolean(jObject, "story_spotlight");
-		this.watermark = JsonIO.parseString(jObject, "watermark");
+		this.watermark = JsonIO.parsePooledString(jObject, "watermark");
+		if (!listFailures.isEmpty()) {
+			Scryfall.getDecodeErrors().reportPartial(id, name, listFailures);
+		}
+		if (Scryfall.isCompactUrls()) {
+			compactUrls();
+		}
+	}
+
+	private static byte parseColorMask(JsonObject jObject, String fieldName) {
+		int colorMask = 0;
+		for (JsonElement jElement : JsonIO.parseArray(jObject, fieldName)) {
+			colorMask |= Symbol.parseId(JsonIO.toString(jElement)).getColorBit();
+		}
+		return (byte) colorMask;
+	}
+
+	/**
+	 * @return {@code List<Symbol> colors} of the mask in WUBRG order
+	 */
+	private static List<Symbol> toList(int colorMask) {
+		return Collections.unmodifiableList(new ArrayList<>(Symbol.fromColorMask(colorMask)));
+	}
+
+	private static long[] noPrices() {
+		long[] prices = new long[PriceType.values().length];
+		Arrays.fill(prices, Prices.NO_PRICE);
+		return prices;
+	}
+
+	/**
+	 * Drops the url fields that are the canonical urls of this card, keeping
+	 * only their non-derivable parts. The getters rebuild them on demand. Urls
+	 * that differ from their canonical form stay stored as they are.
+	 */
+	void compactUrls() {
+		selfApiUrl = compactUrl(SELF_API_URL, selfApiUrl, null);
+		selfScryfallUrl = compactUrl(SELF_SCRYFALL_URL, selfScryfallUrl, null);
+		rulingsApiUrl = compactUrl(RULINGS_API_URL, rulingsApiUrl, null);
+		printsApiSearchUrl = compactUrl(PRINTS_API_SEARCH_URL, printsApiSearchUrl, null);
+		if (setApiUrl != null && setApiUrl.startsWith(API_SETS)) {
+			String setId = Scryfall.getStringPool().intern("set_id", setApiUrl.substring(API_SETS.length()));
+			setApiUrl = compactUrl(SET_API_URL, setApiUrl, setId);
+		}
+		setApiSearchUrl = compactUrl(SET_API_SEARCH_URL, setApiSearchUrl, null);
+		setScryfallUrl = compactUrl(SET_SCRYFALL_URL, setScryfallUrl, null);
+	}
+
+	/**
+	 * @param stored non-derivable part of the url, if any
+	 * @return {@code stored} if the url can be derived from it, otherwise the
+	 *         url itself
+	 */
+	private String compactUrl(byte url, String value, String stored) {
+		if (value == null || (derivedUrls & url) != 0) {
+			return value;
+		}
+		if (value.equals(deriveUrl(url, stored))) {
+			derivedUrls |= url;
+			return stored;
+		}
+		return value;
+	}
+
+	/**
+	 * Stores the derived urls in full, before a field they are derived from
+	 * changes.
+	 */
+	private void expandUrls() {
+		if (derivedUrls == 0) {
+			return;
+		}
+		String selfApiUrl = getSelfApiUrl();
+		String selfScryfallUrl = getSelfScryfallUrl();
+		String rulingsApiUrl = getRulingsApiUrl();
+		String printsApiSearchUrl = getPrintsApiSearchUrl();
+		String setApiUrl = getSetApiUrl();
+		String setApiSearchUrl = getSetApiSearchUrl();
+		String setScryfallUrl = getSetScryfallUrl();
+		derivedUrls = 0;
+		this.selfApiUrl = selfApiUrl;
+		this.selfScryfallUrl = selfScryfallUrl;
+		this.rulingsApiUrl = rulingsApiUrl;
+		this.printsApiSearchUrl = printsApiSearchUrl;
+		this.setApiUrl = setApiUrl;
+		this.setApiSearchUrl = setApiSearchUrl;
+		this.setScryfallUrl = setScryfallUrl;
+	}
+
+	private String deriveUrl(byte url, String stored) {
+		switch (url) {
+		case SELF_API_URL:
+			return API_CARDS + getId();
+		case SELF_SCRYFALL_URL:
+			return "https://scryfall.com/card/" + getSetCode() + "/" + getCollectorNumber() + "/" + slug(getName())
+					+ "?utm_source=api";
+		case RULINGS_API_URL:
+			return API_CARDS + getId() + "/rulings";
+		case PRINTS_API_SEARCH_URL:
+			return API_CARDS + "search?order=released&q=oracleid%3A" + getOracleId() + "&unique=prints";
+		case SET_API_URL:
+			return API_SETS + stored;
+		case SET_API_SEARCH_URL:
+			return API_CARDS + "search?order=set&q=e%3A" + getSetCode() + "&unique=prints";
+		default:
+			return "https://scryfall.com/sets/" + getSetCode() + "?utm_source=api";
+		}
+	}
+
+	/**
+	 * @return the name as it appears in the path of the card's page on
+	 *         scryfall.com, e.g. {@code urzas-saga} for "Urza's Saga"
+	 */
+	private static String slug(String name) {
+		if (name == null) {
+			return null;
+		}
+		StringBuilder slug = new StringBuilder(name.length());
+		boolean separated = false;
+		for (int i = 0; i < name.length(); i++) {
+			char c = Character.toLowerCase(name.charAt(i));
+			if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+				if (separated && slug.length() > 0) {
+					slug.append('-');
+				}
+				slug.append(c);
+				separated = false;
+			} else if (c != '\'') {
+				separated = true;
+			}
+		}
+		return slug.toString();
+	}
+
+	/**
+	 * Creates an empty card to be filled by {@link JsonBinder}.
+	 */
+	MtgCardInformation() {
+	}
+
+	/**
+	 * Copies this card for a caller that must not share it. Immutable values and
+	 * the retained JSON are shared, everything a setter or getter could change is
+	 * copied.
+	 */
+	MtgCardInformation copy() {
+		MtgCardInformation copy;
+		try {
+			copy = (MtgCardInformation) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+		copy.listMultiverseIds = listMultiverseIds == null ? null : new ArrayList<>(listMultiverseIds);
+		if (listAllParts != null) {
+			copy.listAllParts = new ArrayList<>(listAllParts.size());
+			for (RelatedCard relatedCard : listAllParts) {
+				copy.listAllParts.add(relatedCard == null ? null : relatedCard.copy());
+			}
+		}
+		if (listCardFaces != null) {
+			copy.listCardFaces = new ArrayList<>(listCardFaces.size());
+			for (CardFace cardFace : listCardFaces) {
+				copy.listCardFaces.add(cardFace == null ? null : cardFace.copy());
+			}
+		}
+		copy.legalities = legalities.clone();
+		copy.listGames = listGames == null ? null : new ArrayList<>(listGames);
+		copy.mapImageUrls = copyOf(mapImageUrls, ImageType.class);
+		copy.prices = prices.clone();
+		copy.mapRelatedUrls = copyOf(mapRelatedUrls, RelatedSite.class);
+		return copy;
+	}
+
+	static <K extends Enum<K>, V> Map<K, V> copyOf(Map<K, V> map, Class<K> keyType) {
+		if (map == null) {
+			return null;
+		}
+		Map<K, V> copy = new EnumMap<>(keyType);
+		copy.putAll(map);
+		return copy;
 	}
 
 	public MtgCardInformation(String jsonString, String id, int arenaId, int mtgoId, int mtgoFoilId,
@@ -250,7 +452,7 @@ public class MtgCardInformation {
 			String printedText, String printedTypeLine, boolean promo, Map<RelatedSite, String> mapRelatedUrls,
 			Rarity rarity, LocalDate releaseDate, boolean reprint, String setScryfallUrl, String setName,
 			String setApiSearchUrl, String setApiUrl, String setCode, boolean storySpotlight, String watermark) {
-		this.jsonString = jsonString;
+		this.jsonBytes = Scryfall.getJsonRetention().retain(jsonString);
 		this.id = id;
 		this.arenaId = arenaId;
 		this.mtgoId = mtgoId;
@@ -266,14 +468,14 @@ public class MtgCardInformation {
 		this.listAllParts = listAllParts;
 		this.listCardFaces = listCardFaces;
 		this.cmc = cmc;
-		this.listColors = listColors;
-		this.listColorIdentities = listColorIdentities;
-		this.listColorIndicators = listColorIndicators;
+		this.colors = (byte) Symbol.toColorMask(listColors);
+		this.colorIdentity = (byte) Symbol.toColorMask(listColorIdentities);
+		this.colorIndicator = (byte) Symbol.toColorMask(listColorIndicators);
 		this.edhrecRank = edhrecRank;
 		this.foilExists = foilExists;
 		this.handModifier = handModifier;
 		this.layout = layout;
-		this.mapLegality = mapLegality;
+		this.legalities = Legality.toLegalityVector(mapLegality);
 		this.lifeModifier = lifeModifier;
 		this.loyalty = loyalty;
 		this.manaCost = manaCost;
@@ -297,7 +499,7 @@ public class MtgCardInformation {
 		this.highResImageAvailable = highResImageAvailable;
 		this.illustrationId = illustrationId;
 		this.mapImageUrls = mapImageUrls;
-		this.mapPricing = mapPricing;
+		setMapPricing(mapPricing);
 		this.printedName = printedName;
 		this.printedText = printedText;
 		this.printedTypeLine = printedTypeLine;
@@ -321,257 +523,132 @@ public class MtgCardInformation {
 			return true;
 		if (obj == null)
 			return false;
-		if (getClass() != obj.getClass())
+		if (!(obj instanceof MtgCardInformation))
 			return false;
 		MtgCardInformation other = (MtgCardInformation) obj;
-		if (arenaId != other.arenaId)
+		if (getArenaId() != other.getArenaId())
 			return false;
-		if (artist == null) {
-			if (other.artist != null)
-				return false;
-		} else if (!artist.equals(other.artist))
+		if (!Objects.equals(getArtist(), other.getArtist()))
 			return false;
-		if (borderColor != other.borderColor)
+		if (getBorderColor() != other.getBorderColor())
 			return false;
-		if (Double.doubleToLongBits(cmc) != Double.doubleToLongBits(other.cmc))
+		if (Double.doubleToLongBits(getCmc()) != Double.doubleToLongBits(other.getCmc()))
 			return false;
-		if (collectorNumber == null) {
-			if (other.collectorNumber != null)
-				return false;
-		} else if (!collectorNumber.equals(other.collectorNumber))
+		if (!Objects.equals(getCollectorNumber(), other.getCollectorNumber()))
 			return false;
-		if (digitalCard != other.digitalCard)
+		if (isDigitalCard() != other.isDigitalCard())
 			return false;
-		if (edhrecRank != other.edhrecRank)
+		if (getEdhrecRank() != other.getEdhrecRank())
 			return false;
-		if (flavorText == null) {
-			if (other.flavorText != null)
-				return false;
-		} else if (!flavorText.equals(other.flavorText))
+		if (!Objects.equals(getFlavorText(), other.getFlavorText()))
 			return false;
-		if (foilExists != other.foilExists)
+		if (isFoilExists() != other.isFoilExists())
 			return false;
-		if (frame != other.frame)
+		if (getFrame() != other.getFrame())
 			return false;
-		if (frameEffect != other.frameEffect)
+		if (getFrameEffect() != other.getFrameEffect())
 			return false;
-		if (fullArt != other.fullArt)
+		if (isFullArt() != other.isFullArt())
 			return false;
-		if (handModifier == null) {
-			if (other.handModifier != null)
-				return false;
-		} else if (!handModifier.equals(other.handModifier))
+		if (!Objects.equals(getHandModifier(), other.getHandModifier()))
 			return false;
-		if (highResImageAvailable != other.highResImageAvailable)
+		if (isHighResImageAvailable() != other.isHighResImageAvailable())
 			return false;
-		if (id == null) {
-			if (other.id != null)
-				return false;
-		} else if (!id.equals(other.id))
+		if (!Objects.equals(getId(), other.getId()))
 			return false;
-		if (illustrationId == null) {
-			if (other.illustrationId != null)
-				return false;
-		} else if (!illustrationId.equals(other.illustrationId))
+		if (!Objects.equals(getIllustrationId(), other.getIllustrationId()))
 			return false;
-		if (jsonString == null) {
-			if (other.jsonString != null)
-				return false;
-		} else if (!jsonString.equals(other.jsonString))
+		if (getLanguageCode() != other.getLanguageCode())
 			return false;
-		if (languageCode != other.languageCode)
+		if (getLayout() != other.getLayout())
 			return false;
-		if (layout != other.layout)
+		if (!Objects.equals(getLifeModifier(), other.getLifeModifier()))
 			return false;
-		if (lifeModifier == null) {
-			if (other.lifeModifier != null)
-				return false;
-		} else if (!lifeModifier.equals(other.lifeModifier))
+		if (!Objects.equals(getListAllParts(), other.getListAllParts()))
 			return false;
-		if (listAllParts == null) {
-			if (other.listAllParts != null)
-				return false;
-		} else if (!listAllParts.equals(other.listAllParts))
+		if (!Objects.equals(getListCardFaces(), other.getListCardFaces()))
 			return false;
-		if (listCardFaces == null) {
-			if (other.listCardFaces != null)
-				return false;
-		} else if (!listCardFaces.equals(other.listCardFaces))
+		if (getColorIdentityMask() != other.getColorIdentityMask())
 			return false;
-		if (listColorIdentities == null) {
-			if (other.listColorIdentities != null)
-				return false;
-		} else if (!listColorIdentities.equals(other.listColorIdentities))
+		if (getColorIndicatorMask() != other.getColorIndicatorMask())
 			return false;
-		if (listColorIndicators == null) {
-			if (other.listColorIndicators != null)
-				return false;
-		} else if (!listColorIndicators.equals(other.listColorIndicators))
+		if (getColorsMask() != other.getColorsMask())
 			return false;
-		if (listColors == null) {
-			if (other.listColors != null)
-				return false;
-		} else if (!listColors.equals(other.listColors))
+		if (!Objects.equals(getListGames(), other.getListGames()))
 			return false;
-		if (listGames == null) {
-			if (other.listGames != null)
-				return false;
-		} else if (!listGames.equals(other.listGames))
+		if (!Objects.equals(getListMultiverseIds(), other.getListMultiverseIds()))
 			return false;
-		if (listMultiverseIds == null) {
-			if (other.listMultiverseIds != null)
-				return false;
-		} else if (!listMultiverseIds.equals(other.listMultiverseIds))
+		if (!Objects.equals(getLoyalty(), other.getLoyalty()))
 			return false;
-		if (loyalty == null) {
-			if (other.loyalty != null)
-				return false;
-		} else if (!loyalty.equals(other.loyalty))
+		if (!Objects.equals(getManaCost(), other.getManaCost()))
 			return false;
-		if (manaCost == null) {
-			if (other.manaCost != null)
-				return false;
-		} else if (!manaCost.equals(other.manaCost))
+		if (!Objects.equals(getMapImageUrls(), other.getMapImageUrls()))
 			return false;
-		if (mapImageUrls == null) {
-			if (other.mapImageUrls != null)
-				return false;
-		} else if (!mapImageUrls.equals(other.mapImageUrls))
+		if (!Arrays.equals(legalityVector(), other.legalityVector()))
 			return false;
-		if (mapLegality == null) {
-			if (other.mapLegality != null)
-				return false;
-		} else if (!mapLegality.equals(other.mapLegality))
+		if (!Arrays.equals(prices(), other.prices()))
 			return false;
-		if (mapPricing == null) {
-			if (other.mapPricing != null)
-				return false;
-		} else if (!mapPricing.equals(other.mapPricing))
+		if (!Objects.equals(getMapRelatedUrls(), other.getMapRelatedUrls()))
 			return false;
-		if (mapRelatedUrls == null) {
-			if (other.mapRelatedUrls != null)
-				return false;
-		} else if (!mapRelatedUrls.equals(other.mapRelatedUrls))
+		if (getMtgoFoilId() != other.getMtgoFoilId())
 			return false;
-		if (mtgoFoilId != other.mtgoFoilId)
+		if (getMtgoId() != other.getMtgoId())
 			return false;
-		if (mtgoId != other.mtgoId)
+		if (!Objects.equals(getName(), other.getName()))
 			return false;
-		if (name == null) {
-			if (other.name != null)
-				return false;
-		} else if (!name.equals(other.name))
-			return false;
-		if (nonFoilExists != other.nonFoilExists)
+		if (isNonFoilExists() != other.isNonFoilExists())
 			return false;
-		if (oracleId == null) {
-			if (other.oracleId != null)
-				return false;
-		} else if (!oracleId.equals(other.oracleId))
+		if (!Objects.equals(getOracleId(), other.getOracleId()))
 			return false;
-		if (oracleText == null) {
-			if (other.oracleText != null)
-				return false;
-		} else if (!oracleText.equals(other.oracleText))
+		if (!Objects.equals(getOracleText(), other.getOracleText()))
 			return false;
-		if (oversized != other.oversized)
+		if (isOversized() != other.isOversized())
 			return false;
-		if (power == null) {
-			if (other.power != null)
-				return false;
-		} else if (!power.equals(other.power))
+		if (!Objects.equals(getPower(), other.getPower()))
 			return false;
-		if (printedName == null) {
-			if (other.printedName != null)
-				return false;
-		} else if (!printedName.equals(other.printedName))
+		if (!Objects.equals(getPrintedName(), other.getPrintedName()))
 			return false;
-		if (printedText == null) {
-			if (other.printedText != null)
-				return false;
-		} else if (!printedText.equals(other.printedText))
+		if (!Objects.equals(getPrintedText(), other.getPrintedText()))
 			return false;
-		if (printedTypeLine == null) {
-			if (other.printedTypeLine != null)
-				return false;
-		} else if (!printedTypeLine.equals(other.printedTypeLine))
+		if (!Objects.equals(getPrintedTypeLine(), other.getPrintedTypeLine()))
 			return false;
-		if (printsApiSearchUrl == null) {
-			if (other.printsApiSearchUrl != null)
-				return false;
-		} else if (!printsApiSearchUrl.equals(other.printsApiSearchUrl))
+		if (!Objects.equals(getPrintsApiSearchUrl(), other.getPrintsApiSearchUrl()))
 			return false;
-		if (promo != other.promo)
+		if (isPromo() != other.isPromo())
 			return false;
-		if (rarity != other.rarity)
+		if (getRarity() != other.getRarity())
 			return false;
-		if (releaseDate == null) {
-			if (other.releaseDate != null)
-				return false;
-		} else if (!releaseDate.equals(other.releaseDate))
+		if (!Objects.equals(getReleaseDate(), other.getReleaseDate()))
 			return false;
-		if (reprint != other.reprint)
+		if (isReprint() != other.isReprint())
 			return false;
-		if (reserved != other.reserved)
+		if (isReserved() != other.isReserved())
 			return false;
-		if (rulingsApiUrl == null) {
-			if (other.rulingsApiUrl != null)
-				return false;
-		} else if (!rulingsApiUrl.equals(other.rulingsApiUrl))
+		if (!Objects.equals(getRulingsApiUrl(), other.getRulingsApiUrl()))
 			return false;
-		if (selfApiUrl == null) {
-			if (other.selfApiUrl != null)
-				return false;
-		} else if (!selfApiUrl.equals(other.selfApiUrl))
+		if (!Objects.equals(getSelfApiUrl(), other.getSelfApiUrl()))
 			return false;
-		if (selfScryfallUrl == null) {
-			if (other.selfScryfallUrl != null)
-				return false;
-		} else if (!selfScryfallUrl.equals(other.selfScryfallUrl))
+		if (!Objects.equals(getSelfScryfallUrl(), other.getSelfScryfallUrl()))
 			return false;
-		if (setApiSearchUrl == null) {
-			if (other.setApiSearchUrl != null)
-				return false;
-		} else if (!setApiSearchUrl.equals(other.setApiSearchUrl))
+		if (!Objects.equals(getSetApiSearchUrl(), other.getSetApiSearchUrl()))
 			return false;
-		if (setApiUrl == null) {
-			if (other.setApiUrl != null)
-				return false;
-		} else if (!setApiUrl.equals(other.setApiUrl))
+		if (!Objects.equals(getSetApiUrl(), other.getSetApiUrl()))
 			return false;
-		if (setCode == null) {
-			if (other.setCode != null)
-				return false;
-		} else if (!setCode.equals(other.setCode))
+		if (!Objects.equals(getSetCode(), other.getSetCode()))
 			return false;
-		if (setName == null) {
-			if (other.setName != null)
-				return false;
-		} else if (!setName.equals(other.setName))
+		if (!Objects.equals(getSetName(), other.getSetName()))
 			return false;
-		if (setScryfallUrl == null) {
-			if (other.setScryfallUrl != null)
-				return false;
-		} else if (!setScryfallUrl.equals(other.setScryfallUrl))
+		if (!Objects.equals(getSetScryfallUrl(), other.getSetScryfallUrl()))
 			return false;
-		if (storySpotlight != other.storySpotlight)
+		if (isStorySpotlight() != other.isStorySpotlight())
 			return false;
-		if (tcgPlayerId != other.tcgPlayerId)
+		if (getTcgPlayerId() != other.getTcgPlayerId())
 			return false;
-		if (toughness == null) {
-			if (other.toughness != null)
-				return false;
-		} else if (!toughness.equals(other.toughness))
+		if (!Objects.equals(getToughness(), other.getToughness()))
 			return false;
-		if (typeLine == null) {
-			if (other.typeLine != null)
-				return false;
-		} else if (!typeLine.equals(other.typeLine))
+		if (!Objects.equals(getTypeLine(), other.getTypeLine()))
 			return false;
-		if (watermark == null) {
-			if (other.watermark != null)
-				return false;
-		} else if (!watermark.equals(other.watermark))
+		if (!Objects.equals(getWatermark(), other.getWatermark()))
 			return false;
 		return true;
 	}
@@ -596,6 +673,68 @@ public class MtgCardInformation {
 		return collectorNumber;
 	}
 
+	/**
+	 * @return {@code int colorIdentityMask} of {@link Symbol#getColorBit()}
+	 */
+	public int getColorIdentityMask() {
+		return colorIdentity;
+	}
+
+	/**
+	 * @return {@code int colorIndicatorMask} of {@link Symbol#getColorBit()}
+	 */
+	public int getColorIndicatorMask() {
+		return colorIndicator;
+	}
+
+	/**
+	 * @return {@code int colorsMask} of {@link Symbol#getColorBit()}
+	 */
+	public int getColorsMask() {
+		return colors;
+	}
+
+	/**
+	 * @return a new {@code Set<Symbol> colorIdentity}
+	 */
+	public Set<Symbol> getColorIdentity() {
+		return Symbol.fromColorMask(getColorIdentityMask());
+	}
+
+	/**
+	 * @return a new {@code Set<Symbol> colorIndicator}
+	 */
+	public Set<Symbol> getColorIndicator() {
+		return Symbol.fromColorMask(getColorIndicatorMask());
+	}
+
+	/**
+	 * @return a new {@code Set<Symbol> colors}
+	 */
+	public Set<Symbol> getColors() {
+		return Symbol.fromColorMask(getColorsMask());
+	}
+
+	/**
+	 * Tells whether the card may be played in a deck of the given colors, e.g.
+	 * under a commander with that color identity.
+	 *
+	 * @param colorMask mask of {@link Symbol#getColorBit()}, see
+	 *                  {@link Symbol#parseColorMask(String)}
+	 * @return {@code true} if the color identity lies within the colors
+	 */
+	public boolean colorIdentitySubsetOf(int colorMask) {
+		return (getColorIdentityMask() & ~colorMask) == 0;
+	}
+
+	/**
+	 * @param colorMask mask of {@link Symbol#getColorBit()}
+	 * @return {@code true} if the card has at least one of the colors
+	 */
+	public boolean hasAnyColor(int colorMask) {
+		return (getColorsMask() & colorMask) != 0;
+	}
+
 	public int getEdhrecRank() {
 		return edhrecRank;
 	}
@@ -624,8 +763,13 @@ public class MtgCardInformation {
 		return illustrationId;
 	}
 
+	/**
+	 * @return the JSON this object was created from, kept according to the
+	 *         {@link JsonRetention} set at that time, or {@code null} if it was
+	 *         not kept
+	 */
 	public String getJsonString() {
-		return jsonString;
+		return JsonRetention.restore(jsonBytes);
 	}
 
 	public LanguageCode getLanguageCode() {
@@ -648,16 +792,33 @@ public class MtgCardInformation {
 		return listCardFaces;
 	}
 
+	/**
+	 * @return an unmodifiable {@code List<Symbol> listColorIdentities} in WUBRG
+	 *         order, see {@link #getListColors()}
+	 * @see #getColorIdentity()
+	 */
 	public List<Symbol> getListColorIdentities() {
-		return listColorIdentities;
+		return toList(getColorIdentityMask());
 	}
 
+	/**
+	 * @return an unmodifiable {@code List<Symbol> listColorIndicators} in WUBRG
+	 *         order, see {@link #getListColors()}
+	 * @see #getColorIndicator()
+	 */
 	public List<Symbol> getListColorIndicators() {
-		return listColorIndicators;
+		return toList(getColorIndicatorMask());
 	}
 
+	/**
+	 * The colors are kept as a bitmask, so the list is built on every call and
+	 * cannot be modified. Use {@link #setListColors(List)} to change them.
+	 * 
+	 * @return an unmodifiable {@code List<Symbol> listColors} in WUBRG order
+	 * @see #getColors()
+	 */
 	public List<Symbol> getListColors() {
-		return listColors;
+		return toList(getColorsMask());
 	}
 
 	public List<Game> getListGames() {
@@ -680,12 +841,76 @@ public class MtgCardInformation {
 		return mapImageUrls;
 	}
 
+	/**
+	 * The legalities are kept as a vector of codes, so the map is built on every
+	 * call and cannot be modified. Use {@link #setMapLegality(Map)} to change
+	 * them.
+	 * 
+	 * @return an unmodifiable {@code Map<PlayFormat, Legality> mapLegality}
+	 * @see #getLegality(PlayFormat)
+	 */
 	public Map<PlayFormat, Legality> getMapLegality() {
-		return mapLegality;
+		return Collections.unmodifiableMap(Legality.fromLegalityVector(legalityVector()));
+	}
+
+	/**
+	 * @return a new {@code long[] legalityVector} of
+	 *         {@link Legality#getCode()}
+	 * @see LegalityFilter
+	 */
+	public long[] getLegalityVector() {
+		return legalityVector().clone();
+	}
+
+	/**
+	 * @return {@code long[] legalityVector} held by the card, not to be
+	 *         modified
+	 */
+	long[] legalityVector() {
+		return legalities;
+	}
+
+	/**
+	 * @param playFormat
+	 * @return {@code Legality legality} in the format or {@code null} if the
+	 *         card lists none
+	 */
+	public Legality getLegality(PlayFormat playFormat) {
+		return Legality.get(legalityVector(), playFormat);
+	}
+
+	/**
+	 * The prices are kept as fixed-point longs, so the map is built on every call
+	 * and cannot be modified. Use {@link #setMapPricing(Map)} to change them.
+	 * 
+	 * @return an unmodifiable {@code Map<PriceType, BigDecimal> mapPricing} of
+	 *         the prices the card has
+	 * @see #getPrice(PriceType)
+	 */
+	public Map<PriceType, BigDecimal> getMapPricing() {
+		Map<PriceType, BigDecimal> mapPricing = new EnumMap<>(PriceType.class);
+		for (PriceType priceType : PriceType.values()) {
+			long price = getPrice(priceType);
+			if (price != Prices.NO_PRICE) {
+				mapPricing.put(priceType, Prices.toBigDecimal(price));
+			}
+		}
+		return Collections.unmodifiableMap(mapPricing);
 	}
 
-	public Map<PriceType, BigDecimal> getMapPricing() {
-		return mapPricing;
+	/**
+	 * @param priceType
+	 * @return {@code long price} in hundredths or {@link Prices#NO_PRICE}
+	 */
+	public long getPrice(PriceType priceType) {
+		return prices()[priceType.ordinal()];
+	}
+
+	/**
+	 * @return {@code long[] prices} held by the card, not to be modified
+	 */
+	long[] prices() {
+		return prices;
 	}
 
 	public Map<RelatedSite, String> getMapRelatedUrls() {
@@ -729,35 +954,41 @@ public class MtgCardInformation {
 	}
 
 	public String getPrintsApiSearchUrl() {
-		return printsApiSearchUrl;
+		return (derivedUrls & PRINTS_API_SEARCH_URL) != 0 ? deriveUrl(PRINTS_API_SEARCH_URL, printsApiSearchUrl)
+				: printsApiSearchUrl;
 	}
 
 	public Rarity getRarity() {
 		return rarity;
 	}
 
+	/**
+	 * @return {@code LocalDate releaseDate} or {@code null} if Scryfall lists
+	 *         none or it is no valid date
+	 */
 	public LocalDate getReleaseDate() {
 		return releaseDate;
 	}
 
 	public String getRulingsApiUrl() {
-		return rulingsApiUrl;
+		return (derivedUrls & RULINGS_API_URL) != 0 ? deriveUrl(RULINGS_API_URL, rulingsApiUrl) : rulingsApiUrl;
 	}
 
 	public String getSelfApiUrl() {
-		return selfApiUrl;
+		return (derivedUrls & SELF_API_URL) != 0 ? deriveUrl(SELF_API_URL, selfApiUrl) : selfApiUrl;
 	}
 
 	public String getSelfScryfallUrl() {
-		return selfScryfallUrl;
+		return (derivedUrls & SELF_SCRYFALL_URL) != 0 ? deriveUrl(SELF_SCRYFALL_URL, selfScryfallUrl) : selfScryfallUrl;
 	}
 
 	public String getSetApiSearchUrl() {
-		return setApiSearchUrl;
+		return (derivedUrls & SET_API_SEARCH_URL) != 0 ? deriveUrl(SET_API_SEARCH_URL, setApiSearchUrl)
+				: setApiSearchUrl;
 	}
 
 	public String getSetApiUrl() {
-		return setApiUrl;
+		return (derivedUrls & SET_API_URL) != 0 ? deriveUrl(SET_API_URL, setApiUrl) : setApiUrl;
 	}
 
 	public String getSetCode() {
@@ -769,7 +1000,7 @@ public class MtgCardInformation {
 	}
 
 	public String getSetScryfallUrl() {
-		return setScryfallUrl;
+		return (derivedUrls & SET_SCRYFALL_URL) != 0 ? deriveUrl(SET_SCRYFALL_URL, setScryfallUrl) : setScryfallUrl;
 	}
 
 	public int getTcgPlayerId() {
@@ -792,71 +1023,70 @@ public class MtgCardInformation {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + arenaId;
-		result = prime * result + ((artist == null) ? 0 : artist.hashCode());
-		result = prime * result + ((borderColor == null) ? 0 : borderColor.hashCode());
+		result = prime * result + getArenaId();
+		result = prime * result + Objects.hashCode(getArtist());
+		result = prime * result + Objects.hashCode(getBorderColor());
 		long temp;
-		temp = Double.doubleToLongBits(cmc);
+		temp = Double.doubleToLongBits(getCmc());
 		result = prime * result + (int) (temp ^ (temp >>> 32));
-		result = prime * result + ((collectorNumber == null) ? 0 : collectorNumber.hashCode());
-		result = prime * result + (digitalCard ? 1231 : 1237);
-		result = prime * result + edhrecRank;
-		result = prime * result + ((flavorText == null) ? 0 : flavorText.hashCode());
-		result = prime * result + (foilExists ? 1231 : 1237);
-		result = prime * result + ((frame == null) ? 0 : frame.hashCode());
-		result = prime * result + ((frameEffect == null) ? 0 : frameEffect.hashCode());
-		result = prime * result + (fullArt ? 1231 : 1237);
-		result = prime * result + ((handModifier == null) ? 0 : handModifier.hashCode());
-		result = prime * result + (highResImageAvailable ? 1231 : 1237);
-		result = prime * result + ((id == null) ? 0 : id.hashCode());
-		result = prime * result + ((illustrationId == null) ? 0 : illustrationId.hashCode());
-		result = prime * result + ((jsonString == null) ? 0 : jsonString.hashCode());
-		result = prime * result + ((languageCode == null) ? 0 : languageCode.hashCode());
-		result = prime * result + ((layout == null) ? 0 : layout.hashCode());
-		result = prime * result + ((lifeModifier == null) ? 0 : lifeModifier.hashCode());
-		result = prime * result + ((listAllParts == null) ? 0 : listAllParts.hashCode());
-		result = prime * result + ((listCardFaces == null) ? 0 : listCardFaces.hashCode());
-		result = prime * result + ((listColorIdentities == null) ? 0 : listColorIdentities.hashCode());
-		result = prime * result + ((listColorIndicators == null) ? 0 : listColorIndicators.hashCode());
-		result = prime * result + ((listColors == null) ? 0 : listColors.hashCode());
-		result = prime * result + ((listGames == null) ? 0 : listGames.hashCode());
-		result = prime * result + ((listMultiverseIds == null) ? 0 : listMultiverseIds.hashCode());
-		result = prime * result + ((loyalty == null) ? 0 : loyalty.hashCode());
-		result = prime * result + ((manaCost == null) ? 0 : manaCost.hashCode());
-		result = prime * result + ((mapImageUrls == null) ? 0 : mapImageUrls.hashCode());
-		result = prime * result + ((mapLegality == null) ? 0 : mapLegality.hashCode());
-		result = prime * result + ((mapPricing == null) ? 0 : mapPricing.hashCode());
-		result = prime * result + ((mapRelatedUrls == null) ? 0 : mapRelatedUrls.hashCode());
-		result = prime * result + mtgoFoilId;
-		result = prime * result + mtgoId;
-		result = prime * result + ((name == null) ? 0 : name.hashCode());
-		result = prime * result + (nonFoilExists ? 1231 : 1237);
-		result = prime * result + ((oracleId == null) ? 0 : oracleId.hashCode());
-		result = prime * result + ((oracleText == null) ? 0 : oracleText.hashCode());
-		result = prime * result + (oversized ? 1231 : 1237);
-		result = prime * result + ((power == null) ? 0 : power.hashCode());
-		result = prime * result + ((printedName == null) ? 0 : printedName.hashCode());
-		result = prime * result + ((printedText == null) ? 0 : printedText.hashCode());
-		result = prime * result + ((printedTypeLine == null) ? 0 : printedTypeLine.hashCode());
-		result = prime * result + ((printsApiSearchUrl == null) ? 0 : printsApiSearchUrl.hashCode());
-		result = prime * result + (promo ? 1231 : 1237);
-		result = prime * result + ((rarity == null) ? 0 : rarity.hashCode());
-		result = prime * result + ((releaseDate == null) ? 0 : releaseDate.hashCode());
-		result = prime * result + (reprint ? 1231 : 1237);
-		result = prime * result + (reserved ? 1231 : 1237);
-		result = prime * result + ((rulingsApiUrl == null) ? 0 : rulingsApiUrl.hashCode());
-		result = prime * result + ((selfApiUrl == null) ? 0 : selfApiUrl.hashCode());
-		result = prime * result + ((selfScryfallUrl == null) ? 0 : selfScryfallUrl.hashCode());
-		result = prime * result + ((setApiSearchUrl == null) ? 0 : setApiSearchUrl.hashCode());
-		result = prime * result + ((setApiUrl == null) ? 0 : setApiUrl.hashCode());
-		result = prime * result + ((setCode == null) ? 0 : setCode.hashCode());
-		result = prime * result + ((setName == null) ? 0 : setName.hashCode());
-		result = prime * result + ((setScryfallUrl == null) ? 0 : setScryfallUrl.hashCode());
-		result = prime * result + (storySpotlight ? 1231 : 1237);
-		result = prime * result + tcgPlayerId;
-		result = prime * result + ((toughness == null) ? 0 : toughness.hashCode());
-		result = prime * result + ((typeLine == null) ? 0 : typeLine.hashCode());
-		result = prime * result + ((watermark == null) ? 0 : watermark.hashCode());
+		result = prime * result + Objects.hashCode(getCollectorNumber());
+		result = prime * result + (isDigitalCard() ? 1231 : 1237);
+		result = prime * result + getEdhrecRank();
+		result = prime * result + Objects.hashCode(getFlavorText());
+		result = prime * result + (isFoilExists() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getFrame());
+		result = prime * result + Objects.hashCode(getFrameEffect());
+		result = prime * result + (isFullArt() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getHandModifier());
+		result = prime * result + (isHighResImageAvailable() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getId());
+		result = prime * result + Objects.hashCode(getIllustrationId());
+		result = prime * result + Objects.hashCode(getLanguageCode());
+		result = prime * result + Objects.hashCode(getLayout());
+		result = prime * result + Objects.hashCode(getLifeModifier());
+		result = prime * result + Objects.hashCode(getListAllParts());
+		result = prime * result + Objects.hashCode(getListCardFaces());
+		result = prime * result + getColorIdentityMask();
+		result = prime * result + getColorIndicatorMask();
+		result = prime * result + getColorsMask();
+		result = prime * result + Objects.hashCode(getListGames());
+		result = prime * result + Objects.hashCode(getListMultiverseIds());
+		result = prime * result + Objects.hashCode(getLoyalty());
+		result = prime * result + Objects.hashCode(getManaCost());
+		result = prime * result + Objects.hashCode(getMapImageUrls());
+		result = prime * result + Arrays.hashCode(legalityVector());
+		result = prime * result + Arrays.hashCode(prices());
+		result = prime * result + Objects.hashCode(getMapRelatedUrls());
+		result = prime * result + getMtgoFoilId();
+		result = prime * result + getMtgoId();
+		result = prime * result + Objects.hashCode(getName());
+		result = prime * result + (isNonFoilExists() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getOracleId());
+		result = prime * result + Objects.hashCode(getOracleText());
+		result = prime * result + (isOversized() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getPower());
+		result = prime * result + Objects.hashCode(getPrintedName());
+		result = prime * result + Objects.hashCode(getPrintedText());
+		result = prime * result + Objects.hashCode(getPrintedTypeLine());
+		result = prime * result + Objects.hashCode(getPrintsApiSearchUrl());
+		result = prime * result + (isPromo() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getRarity());
+		result = prime * result + Objects.hashCode(getReleaseDate());
+		result = prime * result + (isReprint() ? 1231 : 1237);
+		result = prime * result + (isReserved() ? 1231 : 1237);
+		result = prime * result + Objects.hashCode(getRulingsApiUrl());
+		result = prime * result + Objects.hashCode(getSelfApiUrl());
+		result = prime * result + Objects.hashCode(getSelfScryfallUrl());
+		result = prime * result + Objects.hashCode(getSetApiSearchUrl());
+		result = prime * result + Objects.hashCode(getSetApiUrl());
+		result = prime * result + Objects.hashCode(getSetCode());
+		result = prime * result + Objects.hashCode(getSetName());
+		result = prime * result + Objects.hashCode(getSetScryfallUrl());
+		result = prime * result + (isStorySpotlight() ? 1231 : 1237);
+		result = prime * result + getTcgPlayerId();
+		result = prime * result + Objects.hashCode(getToughness());
+		result = prime * result + Objects.hashCode(getTypeLine());
+		result = prime * result + Objects.hashCode(getWatermark());
 		return result;
 	}
 
@@ -917,6 +1147,7 @@ public class MtgCardInformation {
 	}
 
 	public void setCollectorNumber(String collectorNumber) {
+		expandUrls();
 		this.collectorNumber = collectorNumber;
 	}
 
@@ -957,6 +1188,7 @@ public class MtgCardInformation {
 	}
 
 	public void setId(String id) {
+		expandUrls();
 		this.id = id;
 	}
 
@@ -965,7 +1197,7 @@ public class MtgCardInformation {
 	}
 
 	public void setJsonString(String jsonString) {
-		this.jsonString = jsonString;
+		this.jsonBytes = Scryfall.getJsonRetention().retain(jsonString);
 	}
 
 	public void setLanguageCode(LanguageCode languageCode) {
@@ -989,15 +1221,43 @@ public class MtgCardInformation {
 	}
 
 	public void setListColorIdentities(List<Symbol> listColorIdentities) {
-		this.listColorIdentities = listColorIdentities;
+		setColorIdentityMask(Symbol.toColorMask(listColorIdentities));
 	}
 
 	public void setListColorIndicators(List<Symbol> listColorIndicators) {
-		this.listColorIndicators = listColorIndicators;
+		setColorIndicatorMask(Symbol.toColorMask(listColorIndicators));
 	}
 
 	public void setListColors(List<Symbol> listColors) {
-		this.listColors = listColors;
+		setColorsMask(Symbol.toColorMask(listColors));
+	}
+
+	/**
+	 * @param colorMask mask of {@link Symbol#getColorBit()}
+	 */
+	public void setColorIdentityMask(int colorMask) {
+		this.colorIdentity = toColorMask(colorMask);
+	}
+
+	/**
+	 * @param colorMask mask of {@link Symbol#getColorBit()}
+	 */
+	public void setColorIndicatorMask(int colorMask) {
+		this.colorIndicator = toColorMask(colorMask);
+	}
+
+	/**
+	 * @param colorMask mask of {@link Symbol#getColorBit()}
+	 */
+	public void setColorsMask(int colorMask) {
+		this.colors = toColorMask(colorMask);
+	}
+
+	private static byte toColorMask(int colorMask) {
+		if ((colorMask & ~Symbol.COLOR_MASK_ALL) != 0) {
+			throw new IllegalArgumentException("Not a color mask: " + colorMask);
+		}
+		return (byte) colorMask;
 	}
 
 	public void setListGames(List<Game> listGames) {
@@ -1021,11 +1281,36 @@ public class MtgCardInformation {
 	}
 
 	public void setMapLegality(Map<PlayFormat, Legality> mapLegality) {
-		this.mapLegality = mapLegality;
+		setLegalityVector(Legality.toLegalityVector(mapLegality));
 	}
 
+	/**
+	 * @param legalityVector vector of {@link Legality#getCode()}, copied
+	 */
+	public void setLegalityVector(long[] legalityVector) {
+		if (!Legality.isLegalityVector(legalityVector)) {
+			throw new IllegalArgumentException("Not a legality vector: " + Arrays.toString(legalityVector));
+		}
+		this.legalities = legalityVector.clone();
+	}
+
+	/**
+	 * @param mapPricing prices that are {@code null} or absent are cleared
+	 * @throws ArithmeticException if a price does not fit into a {@code long} of
+	 *                             hundredths
+	 */
 	public void setMapPricing(Map<PriceType, BigDecimal> mapPricing) {
-		this.mapPricing = mapPricing;
+		for (PriceType priceType : PriceType.values()) {
+			setPrice(priceType, mapPricing != null ? Prices.valueOf(mapPricing.get(priceType)) : Prices.NO_PRICE);
+		}
+	}
+
+	/**
+	 * @param priceType
+	 * @param price     in hundredths or {@link Prices#NO_PRICE}
+	 */
+	public void setPrice(PriceType priceType, long price) {
+		prices[priceType.ordinal()] = price;
 	}
 
 	public void setMapRelatedUrls(Map<RelatedSite, String> mapRelatedUrls) {
@@ -1041,6 +1326,7 @@ public class MtgCardInformation {
 	}
 
 	public void setName(String name) {
+		expandUrls();
 		this.name = name;
 	}
 
@@ -1049,6 +1335,7 @@ public class MtgCardInformation {
 	}
 
 	public void setOracleId(String oracleId) {
+		expandUrls();
 		this.oracleId = oracleId;
 	}
 
@@ -1078,6 +1365,7 @@ public class MtgCardInformation {
 
 	public void setPrintsApiSearchUrl(String printsApiSearchUrl) {
 		this.printsApiSearchUrl = printsApiSearchUrl;
+		derivedUrls &= ~PRINTS_API_SEARCH_URL;
 	}
 
 	public void setPromo(boolean promo) {
@@ -1102,25 +1390,31 @@ public class MtgCardInformation {
 
 	public void setRulingsApiUrl(String rulingsApiUrl) {
 		this.rulingsApiUrl = rulingsApiUrl;
+		derivedUrls &= ~RULINGS_API_URL;
 	}
 
 	public void setSelfApiUrl(String selfApiUrl) {
 		this.selfApiUrl = selfApiUrl;
+		derivedUrls &= ~SELF_API_URL;
 	}
 
 	public void setSelfScryfallUrl(String selfScryfallUrl) {
 		this.selfScryfallUrl = selfScryfallUrl;
+		derivedUrls &= ~SELF_SCRYFALL_URL;
 	}
 
 	public void setSetApiSearchUrl(String setApiSearchUrl) {
 		this.setApiSearchUrl = setApiSearchUrl;
+		derivedUrls &= ~SET_API_SEARCH_URL;
 	}
 
 	public void setSetApiUrl(String setApiUrl) {
 		this.setApiUrl = setApiUrl;
+		derivedUrls &= ~SET_API_URL;
 	}
 
 	public void setSetCode(String setCode) {
+		expandUrls();
 		this.setCode = setCode;
 	}
 
@@ -1130,6 +1424,7 @@ public class MtgCardInformation {
 
 	public void setSetScryfallUrl(String setScryfallUrl) {
 		this.setScryfallUrl = setScryfallUrl;
+		derivedUrls &= ~SET_SCRYFALL_URL;
 	}
 
 	public void setStorySpotlight(boolean storySpotlight) {
@@ -1154,24 +1449,24 @@ public class MtgCardInformation {
 
 	@Override
 	public String toString() {
+		String jsonString = getJsonString();
 		return "MtgCardInformation [" + (jsonString != null ? "jsonString=" + jsonString + ", " : "")
 				+ (id != null ? "id=" + id + ", " : "") + "arenaId=" + arenaId + ", mtgoId=" + mtgoId + ", mtgoFoilId="
 				+ mtgoFoilId + ", " + (listMultiverseIds != null ? "listMultiverseIds=" + listMultiverseIds + ", " : "")
 				+ "tcgPlayerId=" + tcgPlayerId + ", " + (oracleId != null ? "oracleId=" + oracleId + ", " : "")
 				+ (languageCode != null ? "languageCode=" + languageCode + ", " : "")
-				+ (printsApiSearchUrl != null ? "printsApiSearchUrl=" + printsApiSearchUrl + ", " : "")
-				+ (rulingsApiUrl != null ? "rulingsApiUrl=" + rulingsApiUrl + ", " : "")
-				+ (selfScryfallUrl != null ? "selfScryfallUrl=" + selfScryfallUrl + ", " : "")
-				+ (selfApiUrl != null ? "selfApiUrl=" + selfApiUrl + ", " : "")
+				+ (getPrintsApiSearchUrl() != null ? "printsApiSearchUrl=" + getPrintsApiSearchUrl() + ", " : "")
+				+ (getRulingsApiUrl() != null ? "rulingsApiUrl=" + getRulingsApiUrl() + ", " : "")
+				+ (getSelfScryfallUrl() != null ? "selfScryfallUrl=" + getSelfScryfallUrl() + ", " : "")
+				+ (getSelfApiUrl() != null ? "selfApiUrl=" + getSelfApiUrl() + ", " : "")
 				+ (listAllParts != null ? "listAllParts=" + listAllParts + ", " : "")
 				+ (listCardFaces != null ? "listCardFaces=" + listCardFaces + ", " : "") + "cmc=" + cmc + ", "
-				+ (listColors != null ? "listColors=" + listColors + ", " : "")
-				+ (listColorIdentities != null ? "listColorIdentities=" + listColorIdentities + ", " : "")
-				+ (listColorIndicators != null ? "listColorIndicators=" + listColorIndicators + ", " : "")
+				+ "listColors=" + getListColors() + ", " + "listColorIdentities=" + getListColorIdentities() + ", "
+				+ "listColorIndicators=" + getListColorIndicators() + ", "
 				+ "edhrecRank=" + edhrecRank + ", foilExists=" + foilExists + ", "
 				+ (handModifier != null ? "handModifier=" + handModifier + ", " : "")
 				+ (layout != null ? "layout=" + layout + ", " : "")
-				+ (mapLegality != null ? "mapLegality=" + mapLegality + ", " : "")
+				+ "mapLegality=" + getMapLegality() + ", "
 				+ (lifeModifier != null ? "lifeModifier=" + lifeModifier + ", " : "")
 				+ (loyalty != null ? "loyalty=" + loyalty + ", " : "")
 				+ (manaCost != null ? "manaCost=" + manaCost + ", " : "") + (name != null ? "name=" + name + ", " : "")
@@ -1190,17 +1485,17 @@ public class MtgCardInformation {
 				+ highResImageAvailable + ", "
 				+ (illustrationId != null ? "illustrationId=" + illustrationId + ", " : "")
 				+ (mapImageUrls != null ? "mapImageUrls=" + mapImageUrls + ", " : "")
-				+ (mapPricing != null ? "mapPricing=" + mapPricing + ", " : "")
+				+ "mapPricing=" + getMapPricing() + ", "
 				+ (printedName != null ? "printedName=" + printedName + ", " : "")
 				+ (printedText != null ? "printedText=" + printedText + ", " : "")
 				+ (printedTypeLine != null ? "printedTypeLine=" + printedTypeLine + ", " : "") + "promo=" + promo + ", "
 				+ (mapRelatedUrls != null ? "mapRelatedUrls=" + mapRelatedUrls + ", " : "")
 				+ (rarity != null ? "rarity=" + rarity + ", " : "")
 				+ (releaseDate != null ? "releaseDate=" + releaseDate + ", " : "") + "reprint=" + reprint + ", "
-				+ (setScryfallUrl != null ? "setScryfallUrl=" + setScryfallUrl + ", " : "")
+				+ (getSetScryfallUrl() != null ? "setScryfallUrl=" + getSetScryfallUrl() + ", " : "")
 				+ (setName != null ? "setName=" + setName + ", " : "")
-				+ (setApiSearchUrl != null ? "setApiSearchUrl=" + setApiSearchUrl + ", " : "")
-				+ (setApiUrl != null ? "setApiUrl=" + setApiUrl + ", " : "")
+				+ (getSetApiSearchUrl() != null ? "setApiSearchUrl=" + getSetApiSearchUrl() + ", " : "")
+				+ (getSetApiUrl() != null ? "setApiUrl=" + getSetApiUrl() + ", " : "")
 				+ (setCode != null ? "setCode=" + setCode + ", " : "") + "storySpotlight=" + storySpotlight + ", "
 				+ (watermark != null ? "watermark=" + watermark : "") + "]";
 	}
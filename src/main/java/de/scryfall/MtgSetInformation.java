@@ -1,7 +1,7 @@
 package de.scryfall;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 import com.google.gson.JsonObject;
 
@@ -16,7 +16,14 @@ import de.scryfall.enums.SetType;
  *
  */
 public class MtgSetInformation {
-	private String jsonString;
+	private static final String API_SETS = "https://api.scryfall.com/sets/";
+	private static final String SVGS_SETS = "https://svgs.scryfall.io/sets/";
+	private static final byte SELF_SCRYFALL_URL = 1;
+	private static final byte SELF_API_URL = 1 << 1;
+	private static final byte ICON_SVG_URL = 1 << 2;
+	private static final byte SEARCH_API_URL = 1 << 3;
+
+	private byte[] jsonBytes;
 	private String id;
 	private String code;
 	private String mtgoCode;
@@ -34,16 +41,21 @@ public class MtgSetInformation {
 	private String selfApiUrl;
 	private String iconSvgUrl;
 	private String searchApiUrl;
+	private byte derivedUrls;
 
 	public MtgSetInformation(JsonObject jObject) {
-		this.jsonString = jObject.toString();
+		JsonRetention jsonRetention = Scryfall.getJsonRetention();
+		if (jsonRetention != JsonRetention.NONE) {
+			this.jsonBytes = jsonRetention.retain(jObject.toString());
+		}
 		this.id = JsonIO.parseString(jObject, "id");
 		this.code = JsonIO.parseString(jObject, "code");
 		this.mtgoCode = JsonIO.parseString(jObject, "mtgo_code");
 		this.tcgPlayerId = JsonIO.parseInteger(jObject, "tcgplayer_id");
 		this.name = JsonIO.parseString(jObject, "name");
-		this.setType = SetType.parseId(JsonIO.parseString(jObject, "set_type"));
-		this.releaseDate = JsonIO.parseLocalDate(jObject, "released_at", DateTimeFormatter.ISO_DATE);
+		String setType = JsonIO.parseString(jObject, "set_type");
+		this.setType = setType != null ? SetType.parseId(setType) : null;
+		this.releaseDate = JsonIO.parseLocalDate(jObject, "released_at");
 		this.blockCode = JsonIO.parseString(jObject, "block_code");
 		this.block = JsonIO.parseString(jObject, "block");
 		this.parentSetCode = JsonIO.parseString(jObject, "parent_set_code");
@@ -54,13 +66,85 @@ public class MtgSetInformation {
 		this.selfApiUrl = JsonIO.parseString(jObject, "uri");
 		this.iconSvgUrl = JsonIO.parseString(jObject, "icon_svg_uri");
 		this.searchApiUrl = JsonIO.parseString(jObject, "search_uri");
+		if (Scryfall.isCompactUrls()) {
+			compactUrls();
+		}
+	}
+
+	/**
+	 * Drops the url fields that are the canonical urls of this set, keeping
+	 * only their non-derivable parts. The getters rebuild them on demand. Urls
+	 * that differ from their canonical form stay stored as they are.
+	 */
+	void compactUrls() {
+		selfScryfallUrl = compactUrl(SELF_SCRYFALL_URL, selfScryfallUrl, null);
+		selfApiUrl = compactUrl(SELF_API_URL, selfApiUrl, null);
+		if (iconSvgUrl != null && iconSvgUrl.startsWith(SVGS_SETS)) {
+			iconSvgUrl = compactUrl(ICON_SVG_URL, iconSvgUrl, iconSvgUrl.substring(SVGS_SETS.length()));
+		}
+		searchApiUrl = compactUrl(SEARCH_API_URL, searchApiUrl, null);
+	}
+
+	/**
+	 * @param stored non-derivable part of the url, if any
+	 * @return {@code stored} if the url can be derived from it, otherwise the
+	 *         url itself
+	 */
+	private String compactUrl(byte url, String value, String stored) {
+		if (value == null || (derivedUrls & url) != 0) {
+			return value;
+		}
+		if (value.equals(deriveUrl(url, stored))) {
+			derivedUrls |= url;
+			return stored;
+		}
+		return value;
+	}
+
+	/**
+	 * Stores the derived urls in full, before a field they are derived from
+	 * changes.
+	 */
+	private void expandUrls() {
+		if (derivedUrls == 0) {
+			return;
+		}
+		String selfScryfallUrl = getSelfScryfallUrl();
+		String selfApiUrl = getSelfApiUrl();
+		String iconSvgUrl = getIconSvgUrl();
+		String searchApiUrl = getSearchApiUrl();
+		derivedUrls = 0;
+		this.selfScryfallUrl = selfScryfallUrl;
+		this.selfApiUrl = selfApiUrl;
+		this.iconSvgUrl = iconSvgUrl;
+		this.searchApiUrl = searchApiUrl;
+	}
+
+	private String deriveUrl(byte url, String stored) {
+		switch (url) {
+		case SELF_SCRYFALL_URL:
+			return "https://scryfall.com/sets/" + getCode();
+		case SELF_API_URL:
+			return API_SETS + getId();
+		case ICON_SVG_URL:
+			return SVGS_SETS + stored;
+		default:
+			return "https://api.scryfall.com/cards/search?include_extras=true&include_variations=true&order=set&q=e%3A"
+					+ getCode() + "&unique=prints";
+		}
+	}
+
+	/**
+	 * Creates an empty set to be filled by {@link JsonBinder}.
+	 */
+	MtgSetInformation() {
 	}
 
 	public MtgSetInformation(String jsonString, String id, String code, String mtgoCode, int tcgPlayerId, String name,
 			SetType setType, LocalDate releaseDate, String blockCode, String block, String parentSetCode, int cardCount,
 			boolean digital, boolean foilOnly, String selfScryfallUrl, String selfApiUrl, String iconSvgUrl,
 			String searchApiUrl) {
-		this.jsonString = jsonString;
+		this.jsonBytes = Scryfall.getJsonRetention().retain(jsonString);
 		this.id = id;
 		this.code = code;
 		this.mtgoCode = mtgoCode;
@@ -110,21 +194,13 @@ public class MtgSetInformation {
 			return false;
 		if (foilOnly != other.foilOnly)
 			return false;
-		if (iconSvgUrl == null) {
-			if (other.iconSvgUrl != null)
-				return false;
-		} else if (!iconSvgUrl.equals(other.iconSvgUrl))
+		if (!Objects.equals(getIconSvgUrl(), other.getIconSvgUrl()))
 			return false;
 		if (id == null) {
 			if (other.id != null)
 				return false;
 		} else if (!id.equals(other.id))
 			return false;
-		if (jsonString == null) {
-			if (other.jsonString != null)
-				return false;
-		} else if (!jsonString.equals(other.jsonString))
-			return false;
 		if (mtgoCode == null) {
 			if (other.mtgoCode != null)
 				return false;
@@ -145,20 +221,11 @@ public class MtgSetInformation {
 				return false;
 		} else if (!releaseDate.equals(other.releaseDate))
 			return false;
-		if (searchApiUrl == null) {
-			if (other.searchApiUrl != null)
-				return false;
-		} else if (!searchApiUrl.equals(other.searchApiUrl))
+		if (!Objects.equals(getSearchApiUrl(), other.getSearchApiUrl()))
 			return false;
-		if (selfApiUrl == null) {
-			if (other.selfApiUrl != null)
-				return false;
-		} else if (!selfApiUrl.equals(other.selfApiUrl))
+		if (!Objects.equals(getSelfApiUrl(), other.getSelfApiUrl()))
 			return false;
-		if (selfScryfallUrl == null) {
-			if (other.selfScryfallUrl != null)
-				return false;
-		} else if (!selfScryfallUrl.equals(other.selfScryfallUrl))
+		if (!Objects.equals(getSelfScryfallUrl(), other.getSelfScryfallUrl()))
 			return false;
 		if (setType != other.setType)
 			return false;
@@ -184,15 +251,20 @@ public class MtgSetInformation {
 	}
 
 	public String getIconSvgUrl() {
-		return iconSvgUrl;
+		return (derivedUrls & ICON_SVG_URL) != 0 ? deriveUrl(ICON_SVG_URL, iconSvgUrl) : iconSvgUrl;
 	}
 
 	public String getId() {
 		return id;
 	}
 
+	/**
+	 * @return the JSON this object was created from, kept according to the
+	 *         {@link JsonRetention} set at that time, or {@code null} if it was
+	 *         not kept
+	 */
 	public String getJsonString() {
-		return jsonString;
+		return JsonRetention.restore(jsonBytes);
 	}
 
 	public String getMtgoCode() {
@@ -207,20 +279,24 @@ public class MtgSetInformation {
 		return parentSetCode;
 	}
 
+	/**
+	 * @return {@code LocalDate releaseDate} or {@code null} if Scryfall lists
+	 *         none or it is no valid date
+	 */
 	public LocalDate getReleaseDate() {
 		return releaseDate;
 	}
 
 	public String getSearchApiUrl() {
-		return searchApiUrl;
+		return (derivedUrls & SEARCH_API_URL) != 0 ? deriveUrl(SEARCH_API_URL, searchApiUrl) : searchApiUrl;
 	}
 
 	public String getSelfApiUrl() {
-		return selfApiUrl;
+		return (derivedUrls & SELF_API_URL) != 0 ? deriveUrl(SELF_API_URL, selfApiUrl) : selfApiUrl;
 	}
 
 	public String getSelfScryfallUrl() {
-		return selfScryfallUrl;
+		return (derivedUrls & SELF_SCRYFALL_URL) != 0 ? deriveUrl(SELF_SCRYFALL_URL, selfScryfallUrl) : selfScryfallUrl;
 	}
 
 	public SetType getSetType() {
@@ -241,16 +317,15 @@ public class MtgSetInformation {
 		result = prime * result + ((code == null) ? 0 : code.hashCode());
 		result = prime * result + (digital ? 1231 : 1237);
 		result = prime * result + (foilOnly ? 1231 : 1237);
-		result = prime * result + ((iconSvgUrl == null) ? 0 : iconSvgUrl.hashCode());
+		result = prime * result + Objects.hashCode(getIconSvgUrl());
 		result = prime * result + ((id == null) ? 0 : id.hashCode());
-		result = prime * result + ((jsonString == null) ? 0 : jsonString.hashCode());
 		result = prime * result + ((mtgoCode == null) ? 0 : mtgoCode.hashCode());
 		result = prime * result + ((name == null) ? 0 : name.hashCode());
 		result = prime * result + ((parentSetCode == null) ? 0 : parentSetCode.hashCode());
 		result = prime * result + ((releaseDate == null) ? 0 : releaseDate.hashCode());
-		result = prime * result + ((searchApiUrl == null) ? 0 : searchApiUrl.hashCode());
-		result = prime * result + ((selfApiUrl == null) ? 0 : selfApiUrl.hashCode());
-		result = prime * result + ((selfScryfallUrl == null) ? 0 : selfScryfallUrl.hashCode());
+		result = prime * result + Objects.hashCode(getSearchApiUrl());
+		result = prime * result + Objects.hashCode(getSelfApiUrl());
+		result = prime * result + Objects.hashCode(getSelfScryfallUrl());
 		result = prime * result + ((setType == null) ? 0 : setType.hashCode());
 		result = prime * result + tcgPlayerId;
 		return result;
@@ -277,6 +352,7 @@ public class MtgSetInformation {
 	}
 
 	public void setCode(String code) {
+		expandUrls();
 		this.code = code;
 	}
 
@@ -290,14 +366,16 @@ public class MtgSetInformation {
 
 	public void setIconSvgUrl(String iconSvgUrl) {
 		this.iconSvgUrl = iconSvgUrl;
+		derivedUrls &= ~ICON_SVG_URL;
 	}
 
 	public void setId(String id) {
+		expandUrls();
 		this.id = id;
 	}
 
 	public void setJsonString(String jsonString) {
-		this.jsonString = jsonString;
+		this.jsonBytes = Scryfall.getJsonRetention().retain(jsonString);
 	}
 
 	public void setMtgoCode(String mtgoCode) {
@@ -318,14 +396,17 @@ public class MtgSetInformation {
 
 	public void setSearchApiUrl(String searchApiUrl) {
 		this.searchApiUrl = searchApiUrl;
+		derivedUrls &= ~SEARCH_API_URL;
 	}
 
 	public void setSelfApiUrl(String selfApiUrl) {
 		this.selfApiUrl = selfApiUrl;
+		derivedUrls &= ~SELF_API_URL;
 	}
 
 	public void setSelfScryfallUrl(String selfScryfallUrl) {
 		this.selfScryfallUrl = selfScryfallUrl;
+		derivedUrls &= ~SELF_SCRYFALL_URL;
 	}
 
 	public void setSetType(SetType setType) {
@@ -338,6 +419,7 @@ public class MtgSetInformation {
 
 	@Override
 	public String toString() {
+		String jsonString = getJsonString();
 		return "MtgSetInformation [" + (jsonString != null ? "jsonString=" + jsonString + ", " : "")
 				+ (id != null ? "id=" + id + ", " : "") + (code != null ? "code=" + code + ", " : "")
 				+ (mtgoCode != null ? "mtgoCode=" + mtgoCode + ", " : "") + "tcgPlayerId=" + tcgPlayerId + ", "
@@ -347,9 +429,9 @@ public class MtgSetInformation {
 				+ (block != null ? "block=" + block + ", " : "")
 				+ (parentSetCode != null ? "parentSetCode=" + parentSetCode + ", " : "") + "cardCount=" + cardCount
 				+ ", digital=" + digital + ", foilOnly=" + foilOnly + ", "
-				+ (selfScryfallUrl != null ? "selfScryfallUrl=" + selfScryfallUrl + ", " : "")
-				+ (selfApiUrl != null ? "selfApiUrl=" + selfApiUrl + ", " : "")
-				+ (iconSvgUrl != null ? "iconSvgUrl=" + iconSvgUrl + ", " : "")
-				+ (searchApiUrl != null ? "searchApiUrl=" + searchApiUrl : "") + "]";
+				+ (getSelfScryfallUrl() != null ? "selfScryfallUrl=" + getSelfScryfallUrl() + ", " : "")
+				+ (getSelfApiUrl() != null ? "selfApiUrl=" + getSelfApiUrl() + ", " : "")
+				+ (getIconSvgUrl() != null ? "iconSvgUrl=" + getIconSvgUrl() + ", " : "")
+				+ (getSearchApiUrl() != null ? "searchApiUrl=" + getSearchApiUrl() : "") + "]";
 	}
 }
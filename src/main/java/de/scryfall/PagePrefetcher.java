@@ -0,0 +1,159 @@
+package de.scryfall;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * PagePrefetcher walks the pages of a paginated list object ahead of its
+ * consumer. The next page is requested as soon as the {@code next_page} of the
+ * current one has been read, which Scryfall sends before the cards, so the
+ * next request overlaps with decoding the cards of the current page. Pages are
+ * handed to the consumer in order. At most {@code depth} pages are fetched or
+ * waiting without having been taken by the consumer.
+ *
+ * @see https://scryfall.com/docs/api/lists
+ * @author QUE
+ *
+ */
+class PagePrefetcher implements Closeable {
+	private static final Object END = new Object();
+
+	private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+	private final ConnectionPermits window;
+	private final BiFunction<String, Consumer<String>, CompletableFuture<CardPage>> fetcher;
+	private volatile boolean closed;
+	private volatile String failedPage;
+	private boolean finished;
+
+	/**
+	 * @param firstPage url of the first page
+	 * @param depth     maximum number of pages held ahead of the consumer
+	 * @param fetcher   requests and decodes a single page and may pass the url of
+	 *                  the next page to the given consumer before it completes
+	 */
+	PagePrefetcher(String firstPage, int depth,
+			BiFunction<String, Consumer<String>, CompletableFuture<CardPage>> fetcher) {
+		if (depth < 1) {
+			throw new IllegalArgumentException("depth must be positive: " + depth);
+		}
+		this.window = new ConnectionPermits(depth);
+		this.fetcher = fetcher;
+		fetch(firstPage, CompletableFuture.completedFuture(null));
+	}
+
+	/**
+	 * @param previous completes once the previous page has been queued
+	 */
+	private void fetch(String url, CompletableFuture<Void> previous) {
+		CompletableFuture<Void> queued = new CompletableFuture<>();
+		AtomicBoolean nextRequested = new AtomicBoolean();
+		Consumer<String> onNextPage = nextPage -> {
+			if (!closed && nextRequested.compareAndSet(false, true)) {
+				fetch(nextPage, queued);
+			}
+		};
+		window.acquireAsync().thenCompose(
+				permit -> closed ? CompletableFuture.<CardPage>completedFuture(null) : fetcher.apply(url, onNextPage))
+				.whenComplete((cardPage, throwable) -> previous.thenRun(() -> {
+					try {
+						offer(url, cardPage, throwable, onNextPage);
+					} finally {
+						queued.complete(null);
+					}
+				}));
+	}
+
+	private void offer(String url, CardPage cardPage, Throwable throwable, Consumer<String> onNextPage) {
+		if (failedPage != null) {
+			return;
+		} else if (throwable != null) {
+			fail(url, throwable);
+		} else if (cardPage != null) {
+			// a failure must reach the queue, or the consumer waits forever
+			try {
+				String nextPage = cardPage.getNextPage();
+				if (cardPage.hasMore() && nextPage == null) {
+					throw new IllegalStateException("Page has more results but no next_page: " + url);
+				}
+				queue.add(cardPage);
+				if (nextPage != null) {
+					onNextPage.accept(nextPage);
+				} else {
+					queue.add(END);
+				}
+			} catch (RuntimeException e) {
+				fail(url, e);
+			}
+		}
+	}
+
+	/**
+	 * Pages are offered in order, so the first failure is the one reported;
+	 * pages requested ahead of it are discarded.
+	 */
+	private void fail(String url, Throwable throwable) {
+		failedPage = url;
+		queue.add(throwable);
+	}
+
+	/**
+	 * Blocks until the next page has arrived.
+	 *
+	 * @return {@code CardPage cardPage} or {@code null} if there are no more
+	 *         pages
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	CardPage next() throws IOException, InterruptedException {
+		if (finished) {
+			return null;
+		}
+		Object item = queue.take();
+		if (item == END) {
+			finished = true;
+			return null;
+		}
+		window.release();
+		if (item instanceof Throwable) {
+			finished = true;
+			Throwable throwable = item instanceof CompletionException && ((Throwable) item).getCause() != null
+					? ((Throwable) item).getCause()
+					: (Throwable) item;
+			if (throwable instanceof IOException) {
+				throw (IOException) throwable;
+			} else if (throwable instanceof RuntimeException) {
+				throw (RuntimeException) throwable;
+			} else if (throwable instanceof Error) {
+				throw (Error) throwable;
+			}
+			throw new IOException(throwable);
+		}
+		return (CardPage) item;
+	}
+
+	/**
+	 * @return url of the page whose request failed or {@code null} if no
+	 *         request has failed
+	 */
+	String getFailedPage() {
+		return failedPage;
+	}
+
+	/**
+	 * Stops requesting further pages. Requests already in flight complete, but
+	 * their results are discarded.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		finished = true;
+		queue.clear();
+	}
+}
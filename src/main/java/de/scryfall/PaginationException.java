@@ -0,0 +1,43 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signals that a paginated list could not be fetched completely. It keeps the
+ * cards of all pages received before the failure and the url of the page that
+ * failed, so that {@link Scryfall#resumeListCards(PaginationException)} can
+ * continue where the list was interrupted instead of starting over.
+ *
+ * @see https://scryfall.com/docs/api/lists
+ * @author QUE
+ *
+ */
+public class PaginationException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	private final String failedPage;
+	private final transient List<MtgCardInformation> listCards;
+
+	public PaginationException(String failedPage, List<MtgCardInformation> listCards, Throwable cause) {
+		super("Failed to fetch page " + failedPage + " after " + listCards.size() + " cards", cause);
+		this.failedPage = failedPage;
+		this.listCards = Collections.unmodifiableList(listCards);
+	}
+
+	/**
+	 * @return url of the page that could not be fetched
+	 */
+	public String getFailedPage() {
+		return failedPage;
+	}
+
+	/**
+	 * @return {@code List<MtgCardInformation> listCards} received before the
+	 *         failure
+	 */
+	public List<MtgCardInformation> getListCards() {
+		return listCards;
+	}
+}
@@ -0,0 +1,257 @@
+package de.scryfall;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * ParallelBulkLoader converts the cards of a bulk data file on all cores of a
+ * {@link ForkJoinPool}. The file is memory-mapped and scanned once for the
+ * commas separating the elements of its top-level array, which splits it into
+ * chunks of whole cards. The chunks are then decoded and converted
+ * independently of each other.
+ * <p>
+ * Gzip-compressed files can not be split and are read sequentially.
+ *
+ * @see https://scryfall.com/docs/api/bulk-data
+ * @author QUE
+ *
+ */
+class ParallelBulkLoader {
+	static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+	private static final long SCAN_WINDOW = 1L << 28;
+
+	private final Path file;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final boolean lazy;
+
+	/**
+	 * @param file      bulk data file of cards
+	 * @param pool      pool converting the chunks
+	 * @param chunkSize minimum number of bytes per chunk, a chunk always ends
+	 *                  after a whole card
+	 * @param lazy      {@code true} to convert into
+	 *                  {@link LazyMtgCardInformation} cards
+	 */
+	ParallelBulkLoader(Path file, ForkJoinPool pool, int chunkSize, boolean lazy) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.file = file;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.lazy = lazy;
+	}
+
+	/**
+	 * @return {@code List<MtgCardInformation> listCards} in the order of the
+	 *         file
+	 * @throws IOException
+	 */
+	List<MtgCardInformation> load() throws IOException {
+		List<MtgCardInformation> listCards = new ArrayList<>();
+		forEach(listCards::add, true);
+		return listCards;
+	}
+
+	/**
+	 * Passes every card of the file to the action.
+	 *
+	 * @param action  receives the cards; if unordered, it is called
+	 *                concurrently from the threads of the pool and has to be
+	 *                thread-safe
+	 * @param ordered {@code true} to call the action on the calling thread in
+	 *                the order of the file, while a bounded number of chunks
+	 *                is converted ahead
+	 * @throws IOException
+	 */
+	void forEach(Consumer<? super MtgCardInformation> action, boolean ordered) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (isGzip(channel)) {
+				try (BulkCardReader bulkCardReader = new BulkCardReader(file, lazy)) {
+					bulkCardReader.forEachRemaining(action);
+				}
+				return;
+			}
+			List<long[]> listChunks = split(channel);
+			if (ordered) {
+				forEachOrdered(channel, listChunks, action);
+			} else {
+				List<ForkJoinTask<?>> listTasks = new ArrayList<>();
+				for (long[] chunk : listChunks) {
+					listTasks.add(pool.submit(() -> parseChunk(channel, chunk[0], chunk[1]).forEach(action)));
+				}
+				for (ForkJoinTask<?> task : listTasks) {
+					join(task);
+				}
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private void forEachOrdered(FileChannel channel, List<long[]> listChunks,
+			Consumer<? super MtgCardInformation> action) throws IOException {
+		int window = 2 * pool.getParallelism();
+		Deque<ForkJoinTask<List<MtgCardInformation>>> inFlight = new ArrayDeque<>();
+		int next = 0;
+		try {
+			while (next < listChunks.size() || !inFlight.isEmpty()) {
+				while (next < listChunks.size() && inFlight.size() < window) {
+					long[] chunk = listChunks.get(next++);
+					inFlight.add(pool.submit(() -> parseChunk(channel, chunk[0], chunk[1])));
+				}
+				join(inFlight.poll()).forEach(action);
+			}
+		} finally {
+			for (ForkJoinTask<?> task : inFlight) {
+				task.cancel(false);
+			}
+		}
+	}
+
+	private static <T> T join(ForkJoinTask<T> task) throws IOException {
+		try {
+			return task.join();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static boolean isGzip(FileChannel channel) throws IOException {
+		ByteBuffer magic = ByteBuffer.allocate(2);
+		channel.read(magic, 0);
+		return magic.position() == 2 && (magic.get(0) & 0xff) == 0x1f && (magic.get(1) & 0xff) == 0x8b;
+	}
+
+	/**
+	 * Scans the file for the commas between the elements of the top-level
+	 * array, ignoring those inside nested values and strings.
+	 *
+	 * @return start and end offsets of the chunks, each a comma-separated
+	 *         sequence of whole elements
+	 * @throws IOException
+	 */
+	private List<long[]> split(FileChannel channel) throws IOException {
+		List<long[]> listChunks = new ArrayList<>();
+		long size = channel.size();
+		int depth = 0;
+		boolean inString = false;
+		boolean escaped = false;
+		long chunkStart = -1;
+		for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+					Math.min(SCAN_WINDOW, size - windowStart));
+			for (int i = 0, limit = buffer.limit(); i < limit; i++) {
+				byte b = buffer.get(i);
+				if (inString) {
+					if (escaped) {
+						escaped = false;
+					} else if (b == '\\') {
+						escaped = true;
+					} else if (b == '"') {
+						inString = false;
+					}
+					continue;
+				}
+				switch (b) {
+				case '"':
+					inString = true;
+					break;
+				case '[':
+				case '{':
+					if (depth++ == 0) {
+						if (b != '[') {
+							throw new IOException("Bulk data file is not a JSON array: " + file);
+						}
+						chunkStart = windowStart + i + 1;
+					}
+					break;
+				case ']':
+				case '}':
+					if (--depth == 0) {
+						addChunk(channel, listChunks, chunkStart, windowStart + i);
+						return listChunks;
+					}
+					break;
+				case ',':
+					if (depth == 1 && windowStart + i - chunkStart >= chunkSize) {
+						addChunk(channel, listChunks, chunkStart, windowStart + i);
+						chunkStart = windowStart + i + 1;
+					}
+					break;
+				default:
+					break;
+				}
+			}
+		}
+		throw new IOException("Bulk data file ends before its top-level array is closed: " + file);
+	}
+
+	private static void addChunk(FileChannel channel, List<long[]> listChunks, long start, long end)
+			throws IOException {
+		if (end - start > Integer.MAX_VALUE - 2) {
+			throw new IOException("Bulk data element exceeds 2 GB at offset " + start);
+		}
+		if (end > start && !isBlank(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start))) {
+			listChunks.add(new long[] { start, end });
+		}
+	}
+
+	private static boolean isBlank(ByteBuffer buffer) {
+		for (int i = 0; i < buffer.limit(); i++) {
+			byte b = buffer.get(i);
+			if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes a chunk into an array of chars enclosed in brackets, so that it can
+	 * be read like a bulk data file of its own. UTF-8 never decodes into more
+	 * chars than it has bytes.
+	 */
+	private List<MtgCardInformation> parseChunk(FileChannel channel, long start, long end) {
+		try {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+			char[] chars = new char[(int) (end - start) + 2];
+			CharBuffer charBuffer = CharBuffer.wrap(chars);
+			charBuffer.put('[');
+			CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+			decoder.decode(buffer, charBuffer, true);
+			decoder.flush(charBuffer);
+			charBuffer.put(']');
+			List<MtgCardInformation> listCards = new ArrayList<>();
+			try (BulkCardReader bulkCardReader = new BulkCardReader(
+					new CharArrayReader(chars, 0, charBuffer.position()), lazy)) {
+				MtgCardInformation card;
+				while ((card = bulkCardReader.nextCard()) != null) {
+					listCards.add(card);
+				}
+			}
+			return listCards;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,341 @@
+package de.scryfall;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import de.scryfall.enums.PriceType;
+
+/**
+ * Prices holds the fixed-point representation of card prices and aggregates
+ * them without boxing. A price is a {@code long} of hundredths of its currency,
+ * i.e. cents for USD and EUR and hundredths of an event ticket for TIX. A
+ * card without a price of some type has {@link #NO_PRICE} for it, which all
+ * aggregations skip.
+ * <p>
+ * The aggregations come in two forms: over a collection of cards, reading
+ * {@link MtgCardInformation#getPrice(PriceType)}, and over a {@code long[]}
+ * taken once with {@link #prices(List, PriceType)}, which is the fastest way
+ * to evaluate many aggregations over the same cards.
+ *
+ * @see https://scryfall.com/docs/api/cards
+ * @author QUE
+ *
+ */
+public class Prices {
+	/**
+	 * Stands for a price Scryfall does not list.
+	 */
+	public static final long NO_PRICE = Long.MIN_VALUE;
+
+	/**
+	 * Decimal places of a price.
+	 */
+	public static final int SCALE = 2;
+
+	/**
+	 * Prices with more integer digits are parsed as {@link BigDecimal} to
+	 * detect overflows.
+	 */
+	private static final int MAX_FAST_DIGITS = 16;
+
+	/**
+	 * @param value decimal price such as {@code "0.25"}
+	 * @return {@code long price} in hundredths, rounded half up, or
+	 *         {@link #NO_PRICE} if the value is {@code null} or no number
+	 */
+	public static long parse(String value) {
+		if (value == null) {
+			return NO_PRICE;
+		}
+		long price = 0;
+		int digits = 0;
+		int decimals = -1;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9' && digits < MAX_FAST_DIGITS && decimals < SCALE) {
+				price = price * 10 + (c - '0');
+				digits++;
+				if (decimals >= 0) {
+					decimals++;
+				}
+			} else if (c == '.' && decimals < 0 && digits > 0) {
+				decimals = 0;
+			} else {
+				return parseSlow(value);
+			}
+		}
+		if (digits == 0 || decimals == 0) {
+			return parseSlow(value);
+		}
+		for (int i = Math.max(decimals, 0); i < SCALE; i++) {
+			price *= 10;
+		}
+		return price;
+	}
+
+	private static long parseSlow(String value) {
+		try {
+			return valueOf(new BigDecimal(value));
+		} catch (NumberFormatException | ArithmeticException e) {
+			return NO_PRICE;
+		}
+	}
+
+	/**
+	 * @param price
+	 * @return {@code long price} in hundredths, rounded half up, or
+	 *         {@link #NO_PRICE} if the price is {@code null}
+	 * @throws ArithmeticException if the price does not fit into a
+	 *                             {@code long}
+	 */
+	public static long valueOf(BigDecimal price) {
+		if (price == null) {
+			return NO_PRICE;
+		}
+		long value = price.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+		if (value == NO_PRICE) {
+			throw new ArithmeticException("Price out of range: " + price);
+		}
+		return value;
+	}
+
+	/**
+	 * @param price in hundredths
+	 * @return {@code BigDecimal price} or {@code null} for {@link #NO_PRICE}
+	 */
+	public static BigDecimal toBigDecimal(long price) {
+		return price != NO_PRICE ? BigDecimal.valueOf(price, SCALE) : null;
+	}
+
+	/**
+	 * @param cards
+	 * @param priceType
+	 * @return {@code long[] prices} of the cards, in the same order
+	 */
+	public static long[] prices(List<? extends MtgCardInformation> cards, PriceType priceType) {
+		long[] prices = new long[cards.size()];
+		int i = 0;
+		for (MtgCardInformation card : cards) {
+			prices[i++] = card.getPrice(priceType);
+		}
+		return prices;
+	}
+
+	/**
+	 * @param cards
+	 * @param priceType
+	 * @return {@code long sum} of the prices the cards have, {@code 0} if none
+	 *         has one
+	 */
+	public static long sum(Collection<? extends MtgCardInformation> cards, PriceType priceType) {
+		long sum = 0;
+		for (MtgCardInformation card : cards) {
+			long price = card.getPrice(priceType);
+			if (price != NO_PRICE) {
+				sum += price;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * @param prices
+	 * @return {@code long sum} of the prices, {@code 0} if there are none
+	 */
+	public static long sum(long[] prices) {
+		long sum = 0;
+		for (long price : prices) {
+			if (price != NO_PRICE) {
+				sum += price;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * @param prices
+	 * @return {@code int count} of the prices that are not {@link #NO_PRICE}
+	 */
+	public static int count(long[] prices) {
+		int count = 0;
+		for (long price : prices) {
+			if (price != NO_PRICE) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @param cards
+	 * @param priceType
+	 * @return {@code long min} of the prices the cards have or {@link #NO_PRICE}
+	 *         if none has one
+	 */
+	public static long min(Collection<? extends MtgCardInformation> cards, PriceType priceType) {
+		long min = Long.MAX_VALUE;
+		boolean found = false;
+		for (MtgCardInformation card : cards) {
+			long price = card.getPrice(priceType);
+			if (price != NO_PRICE) {
+				min = Math.min(min, price);
+				found = true;
+			}
+		}
+		return found ? min : NO_PRICE;
+	}
+
+	/**
+	 * @param prices
+	 * @return {@code long min} of the prices or {@link #NO_PRICE} if there are
+	 *         none
+	 */
+	public static long min(long[] prices) {
+		long min = Long.MAX_VALUE;
+		boolean found = false;
+		for (long price : prices) {
+			if (price != NO_PRICE) {
+				min = Math.min(min, price);
+				found = true;
+			}
+		}
+		return found ? min : NO_PRICE;
+	}
+
+	/**
+	 * @param cards
+	 * @param priceType
+	 * @return {@code long max} of the prices the cards have or {@link #NO_PRICE}
+	 *         if none has one
+	 */
+	public static long max(Collection<? extends MtgCardInformation> cards, PriceType priceType) {
+		long max = NO_PRICE;
+		for (MtgCardInformation card : cards) {
+			max = Math.max(max, card.getPrice(priceType));
+		}
+		return max;
+	}
+
+	/**
+	 * @param prices
+	 * @return {@code long max} of the prices or {@link #NO_PRICE} if there are
+	 *         none
+	 */
+	public static long max(long[] prices) {
+		long max = NO_PRICE;
+		for (long price : prices) {
+			max = Math.max(max, price);
+		}
+		return max;
+	}
+
+	/**
+	 * @param cards
+	 * @param priceType
+	 * @param k
+	 * @return a new {@code List<T> listCards} of the at most k most expensive
+	 *         cards that have a price, most expensive first
+	 */
+	public static <T extends MtgCardInformation> List<T> topK(List<T> cards, PriceType priceType, int k) {
+		int[] indices = topK(prices(cards, priceType), k);
+		List<T> listCards = new ArrayList<>(indices.length);
+		for (int index : indices) {
+			listCards.add(cards.get(index));
+		}
+		return listCards;
+	}
+
+	/**
+	 * Selects with a bounded min-heap of indices, so that only prices greater
+	 * than the cheapest of the current top k are ever moved.
+	 *
+	 * @param prices
+	 * @param k
+	 * @return {@code int[] indices} of the at most k greatest prices, greatest
+	 *         first and equal prices in index order
+	 */
+	public static int[] topK(long[] prices, int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		int[] heap = new int[Math.min(k, prices.length)];
+		int size = 0;
+		for (int i = 0; i < prices.length && heap.length > 0; i++) {
+			if (prices[i] == NO_PRICE) {
+				continue;
+			} else if (size < heap.length) {
+				heap[size] = i;
+				siftUp(prices, heap, size++);
+			} else if (prices[i] > prices[heap[0]]) {
+				heap[0] = i;
+				siftDown(prices, heap, size);
+			}
+		}
+		int[] indices = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			indices[i] = heap[0];
+			heap[0] = heap[i];
+			siftDown(prices, heap, i);
+		}
+		return indices;
+	}
+
+	/**
+	 * @return {@code true} if the price at index a ranks below the one at b
+	 */
+	private static boolean below(long[] prices, int a, int b) {
+		return prices[a] < prices[b] || (prices[a] == prices[b] && a > b);
+	}
+
+	private static void siftUp(long[] prices, int[] heap, int i) {
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (!below(prices, heap[i], heap[parent])) {
+				return;
+			}
+			swap(heap, i, parent);
+			i = parent;
+		}
+	}
+
+	private static void siftDown(long[] prices, int[] heap, int size) {
+		int i = 0;
+		while (2 * i + 1 < size) {
+			int child = 2 * i + 1;
+			if (child + 1 < size && below(prices, heap[child + 1], heap[child])) {
+				child++;
+			}
+			if (!below(prices, heap[child], heap[i])) {
+				return;
+			}
+			swap(heap, i, child);
+			i = child;
+		}
+	}
+
+	private static void swap(int[] heap, int i, int j) {
+		int tmp = heap[i];
+		heap[i] = heap[j];
+		heap[j] = tmp;
+	}
+
+	/**
+	 * @param prices
+	 * @return a sorted copy of the prices without {@link #NO_PRICE}
+	 */
+	public static long[] sorted(long[] prices) {
+		long[] sorted = new long[count(prices)];
+		int i = 0;
+		for (long price : prices) {
+			if (price != NO_PRICE) {
+				sorted[i++] = price;
+			}
+		}
+		Arrays.sort(sorted);
+		return sorted;
+	}
+}
@@ -0,0 +1,121 @@
+package de.scryfall;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. The bucket holds up to {@code burst} permits and
+ * is refilled at {@code permitsPerSecond}. Callers only sleep when the bucket is
+ * empty.
+ * <p>
+ * The bucket is tracked as the theoretical arrival time of the next request
+ * (GCRA), so reserving a permit is a single compare-and-set.
+ *
+ * @see https://scryfall.com/docs/api#rate-limits-and-good-citizenship
+ * @author QUE
+ *
+ */
+public class RateLimiter {
+	public static final double DEFAULT_PERMITS_PER_SECOND = 10;
+	public static final int DEFAULT_BURST = 10;
+
+	private final double permitsPerSecond;
+	private final int burst;
+	private final long intervalNanos;
+	private final long toleranceNanos;
+	private final AtomicLong theoreticalArrival;
+
+	public RateLimiter() {
+		this(DEFAULT_PERMITS_PER_SECOND, DEFAULT_BURST);
+	}
+
+	/**
+	 * @param permitsPerSecond sustained number of requests per second
+	 * @param burst            number of requests that may be issued at once after
+	 *                         an idle period
+	 */
+	public RateLimiter(double permitsPerSecond, int burst) {
+		if (!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+		}
+		if (burst < 1) {
+			throw new IllegalArgumentException("burst must be positive: " + burst);
+		}
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst;
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.toleranceNanos = intervalNanos * (burst - 1);
+		this.theoreticalArrival = new AtomicLong(System.nanoTime());
+	}
+
+	/**
+	 * Reserves a permit and returns how long the caller has to wait before
+	 * using it.
+	 *
+	 * @return {@code long nanos} to wait, {@code 0} if the permit is available
+	 *         immediately
+	 */
+	long reserve() {
+		while (true) {
+			long now = System.nanoTime();
+			long arrival = theoreticalArrival.get();
+			long start = arrival - now > 0 ? arrival : now;
+			if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+				long wait = start - toleranceNanos - now;
+				return wait > 0 ? wait : 0;
+			}
+		}
+	}
+
+	/**
+	 * Blocks until a permit is available.
+	 *
+	 * @throws InterruptedIOException if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedIOException {
+		long wait = reserve();
+		if (wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException interruptedIOException = new InterruptedIOException(
+						"Interrupted while waiting for the rate limit");
+				interruptedIOException.initCause(e);
+				throw interruptedIOException;
+			}
+		}
+	}
+
+	/**
+	 * Reserves a permit without blocking.
+	 *
+	 * @param executor runs the dependent stages once the permit is available
+	 * @return {@code CompletableFuture<Void>} that completes when the permit may
+	 *         be used
+	 */
+	public CompletableFuture<Void> acquireAsync(Executor executor) {
+		long wait = reserve();
+		if (wait > 0) {
+			return CompletableFuture.runAsync(() -> {
+			}, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS, executor));
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	public double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	public int getBurst() {
+		return burst;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimiter [permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + "]";
+	}
+}
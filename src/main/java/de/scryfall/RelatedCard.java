@@ -10,7 +10,7 @@ import com.google.gson.JsonObject;
  * @author QUE
  *
  */
-public class RelatedCard {
+public class RelatedCard implements Cloneable {
 	private String id;
 	private String component;
 	private String name;
@@ -18,11 +18,28 @@ public class RelatedCard {
 	private String selfUri;
 
 	public RelatedCard(JsonObject jObject) {
-		this.id = JsonIO.parseString(jObject, "id");
-		this.component = JsonIO.parseString(jObject, "component");
-		this.name = JsonIO.parseString(jObject, "name");
-		this.typeLine = JsonIO.parseString(jObject, "type_line");
-		this.selfUri = JsonIO.parseString(jObject, "uri");
+		this.id = JsonIO.parsePooledString(jObject, "id");
+		this.component = JsonIO.parsePooledString(jObject, "component");
+		this.name = JsonIO.parsePooledString(jObject, "name");
+		this.typeLine = JsonIO.parsePooledString(jObject, "type_line");
+		this.selfUri = JsonIO.parsePooledString(jObject, "uri");
+	}
+
+	/**
+	 * Creates an empty related card to be filled by {@link JsonBinder}.
+	 */
+	RelatedCard() {
+	}
+
+	/**
+	 * @see MtgCardInformation#copy()
+	 */
+	RelatedCard copy() {
+		try {
+			return (RelatedCard) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
 	}
 
 	public RelatedCard(String id, String component, String name, String typeLine, String selfUri) {
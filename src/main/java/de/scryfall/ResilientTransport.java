@@ -0,0 +1,254 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ResilientTransport adds retries and a {@link CircuitBreaker} to another
+ * transport. GET requests that fail with 429 Too Many Requests, a 5xx status
+ * or a network error are retried with jittered exponential backoff, waiting at
+ * least as long as the server asked for in its Retry-After header. Every retry
+ * takes a permit from the {@link RateLimiter}, so retries stay within the rate
+ * limit shared with all other requests. Asynchronous retries wait without
+ * blocking a thread and continue on the executor set by
+ * {@link Scryfall#setExecutor(Executor)}. POST requests are only retried if they
+ * are reads, such as the card collection lookup; all of them count towards the
+ * circuit breaker.
+ * <p>
+ * For the methods taking a {@link ScryfallTransport.BodyReader}, reading the
+ * body is part of each attempt, so a connection lost while the body is read is
+ * retried and counts towards the circuit breaker like any other network
+ * error. A request returning the plain stream is complete once the response
+ * headers have arrived; failures while that stream is read are left to the
+ * caller.
+ *
+ * @see https://scryfall.com/docs/api#rate-limits-and-good-citizenship
+ * @author QUE
+ *
+ */
+public class ResilientTransport implements ScryfallTransport {
+	public static final int DEFAULT_MAX_RETRIES = 4;
+	public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(250);
+	public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+
+	private static final String READ_POST_PATH = "/cards/collection";
+
+	private final ScryfallTransport delegate;
+	private final int maxRetries;
+	private final Duration baseDelay;
+	private final Duration maxDelay;
+	private final CircuitBreaker circuitBreaker;
+	private final RateLimiter rateLimiter;
+
+	private interface Request<T> {
+		T send() throws IOException;
+	}
+
+	public ResilientTransport(ScryfallTransport delegate) {
+		this(delegate, DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, new CircuitBreaker(), null);
+	}
+
+	/**
+	 * @param delegate       transport performing the requests
+	 * @param maxRetries     retries after the first attempt of a request
+	 * @param baseDelay      backoff before the first retry, doubled for every
+	 *                       further retry
+	 * @param maxDelay       upper bound of the backoff
+	 * @param circuitBreaker
+	 * @param rateLimiter    acquired before every retry, {@code null} for the
+	 *                       one {@link Scryfall#getRateLimiter()} returns at
+	 *                       the time of the retry
+	 */
+	public ResilientTransport(ScryfallTransport delegate, int maxRetries, Duration baseDelay, Duration maxDelay,
+			CircuitBreaker circuitBreaker, RateLimiter rateLimiter) {
+		if (maxRetries < 0) {
+			throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+		}
+		this.delegate = delegate;
+		this.maxRetries = maxRetries;
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+		this.circuitBreaker = circuitBreaker;
+		this.rateLimiter = rateLimiter;
+	}
+
+	@Override
+	public InputStream get(String url) throws IOException {
+		return execute(url, () -> delegate.get(url), maxRetries);
+	}
+
+	@Override
+	public CompletableFuture<InputStream> getAsync(String url) {
+		return executeAsync(url, () -> delegate.getAsync(url), 0, maxRetries);
+	}
+
+	@Override
+	public <T> T get(String url, BodyReader<T> bodyReader) throws IOException {
+		return execute(url, () -> delegate.get(url, bodyReader), maxRetries);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> getAsync(String url, BodyReader<T> bodyReader, Executor executor) {
+		return executeAsync(url, () -> delegate.getAsync(url, bodyReader, executor), 0, maxRetries);
+	}
+
+	@Override
+	public InputStream getFrom(String url, long offset) throws IOException {
+		return execute(url, () -> delegate.getFrom(url, offset), maxRetries);
+	}
+
+	@Override
+	public InputStream post(String url, String jsonBody) throws IOException {
+		return execute(url, () -> delegate.post(url, jsonBody), isRead(url) ? maxRetries : 0);
+	}
+
+	@Override
+	public CompletableFuture<InputStream> postAsync(String url, String jsonBody) {
+		return executeAsync(url, () -> delegate.postAsync(url, jsonBody), 0, isRead(url) ? maxRetries : 0);
+	}
+
+	@Override
+	public <T> T post(String url, String jsonBody, BodyReader<T> bodyReader) throws IOException {
+		return execute(url, () -> delegate.post(url, jsonBody, bodyReader), isRead(url) ? maxRetries : 0);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> postAsync(String url, String jsonBody, BodyReader<T> bodyReader,
+			Executor executor) {
+		return executeAsync(url, () -> delegate.postAsync(url, jsonBody, bodyReader, executor), 0,
+				isRead(url) ? maxRetries : 0);
+	}
+
+	public ScryfallTransport getDelegate() {
+		return delegate;
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * @return {@code RateLimiter rateLimiter} acquired before every retry
+	 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter != null ? rateLimiter : Scryfall.getRateLimiter();
+	}
+
+	private <T> T execute(String url, Request<T> request, int retries) throws IOException {
+		for (int attempt = 0;; attempt++) {
+			if (!circuitBreaker.tryAcquire()) {
+				throw new CircuitOpenException(url);
+			}
+			try {
+				T result = request.send();
+				circuitBreaker.onSuccess();
+				return result;
+			} catch (IOException e) {
+				if (!isFailure(e)) {
+					circuitBreaker.onSuccess();
+					throw e;
+				}
+				circuitBreaker.onFailure();
+				if (attempt >= retries || Thread.currentThread().isInterrupted()) {
+					throw e;
+				}
+				try {
+					TimeUnit.NANOSECONDS.sleep(delay(attempt, e).toNanos());
+					getRateLimiter().acquire();
+				} catch (InterruptedException e2) {
+					Thread.currentThread().interrupt();
+					InterruptedIOException interruptedIOException = new InterruptedIOException(
+							"Interrupted while waiting to retry " + url);
+					interruptedIOException.initCause(e2);
+					throw interruptedIOException;
+				}
+			} catch (RuntimeException e) {
+				circuitBreaker.onSuccess();
+				throw e;
+			}
+		}
+	}
+
+	private <T> CompletableFuture<T> executeAsync(String url, Supplier<CompletableFuture<T>> call, int attempt,
+			int retries) {
+		if (!circuitBreaker.tryAcquire()) {
+			return CompletableFuture.failedFuture(new CircuitOpenException(url));
+		}
+		CompletableFuture<T> response;
+		try {
+			response = call.get();
+		} catch (RuntimeException e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+		return response.handle((result, throwable) -> {
+			if (throwable == null) {
+				circuitBreaker.onSuccess();
+				return CompletableFuture.completedFuture(result);
+			}
+			Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+					? throwable.getCause()
+					: throwable;
+			if (!(cause instanceof IOException) || !isFailure((IOException) cause)) {
+				circuitBreaker.onSuccess();
+				return CompletableFuture.<T>failedFuture(cause);
+			}
+			circuitBreaker.onFailure();
+			if (attempt >= retries) {
+				return CompletableFuture.<T>failedFuture(cause);
+			}
+			long delayNanos = delay(attempt, (IOException) cause).toNanos();
+			Executor executor = Scryfall.getExecutor();
+			return CompletableFuture.runAsync(() -> {
+			}, CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor))
+					.thenCompose(delayed -> getRateLimiter().acquireAsync(executor))
+					.thenCompose(permit -> executeAsync(url, call, attempt + 1, retries));
+		}).thenCompose(Function.identity());
+	}
+
+	/**
+	 * POST requests are not idempotent in general, but the collection endpoint
+	 * only looks cards up and may be sent again.
+	 */
+	private static boolean isRead(String url) {
+		return url.endsWith(READ_POST_PATH);
+	}
+
+	/**
+	 * Client errors other than 429 mean the server is healthy and the request
+	 * would fail again, so they neither trip the breaker nor are retried.
+	 */
+	private static boolean isFailure(IOException e) {
+		if (e instanceof ScryfallHttpException) {
+			return ((ScryfallHttpException) e).isRetryable();
+		}
+		return !(e instanceof InterruptedIOException) && !(e instanceof CircuitOpenException);
+	}
+
+	private Duration delay(int attempt, IOException e) {
+		long backoff = baseDelay.toNanos() << Math.min(attempt, 30);
+		if (backoff <= 0 || backoff > maxDelay.toNanos()) {
+			backoff = maxDelay.toNanos();
+		}
+		long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+		if (e instanceof ScryfallHttpException && ((ScryfallHttpException) e).getRetryAfter() != null) {
+			return Duration.ofNanos(Math.max(jittered, ((ScryfallHttpException) e).getRetryAfter().toNanos()));
+		}
+		return Duration.ofNanos(jittered);
+	}
+
+	@Override
+	public String toString() {
+		return "ResilientTransport [delegate=" + delegate + ", maxRetries=" + maxRetries + ", baseDelay=" + baseDelay
+				+ ", maxDelay=" + maxDelay + ", circuitBreaker=" + circuitBreaker + ", rateLimiter=" + rateLimiter
+				+ "]";
+	}
+}
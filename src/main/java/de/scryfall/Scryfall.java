@@ -1,21 +1,51 @@
 package de.scryfall;
 
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+import de.scryfall.ScryfallTransport.BodyReader;
+
+import de.scryfall.enums.BulkDataType;
 
 /**
  * This class serves as an entry-point to the Scryfall-API. All implemented
@@ -30,23 +60,75 @@ public class Scryfall {
 	private static final String SETS = "sets/";
 	private static final String CARDS = "cards/";
 	private static final String SEARCH_QUERY = "search?q=";
+	private static final String COLLECTION = "collection";
+	private static final int COLLECTION_BATCH_SIZE = 75;
+	private static final String BULK_DATA = "bulk-data";
+	private static final int BULK_DATA_MAX_ATTEMPTS = 5;
+	private static volatile ScryfallTransport transport = new ResilientTransport(new HttpTransport());
+	private static volatile RateLimiter rateLimiter = new RateLimiter();
+	private static volatile Executor executor = ForkJoinPool.commonPool();
+	private static volatile int pagePrefetch = 1;
+	private static volatile JsonRetention jsonRetention = JsonRetention.COMPRESSED;
+	private static volatile StringPool stringPool = new StringPool();
+	private static volatile boolean compactUrls;
+	private static volatile DecodeErrors decodeErrors = new DecodeErrors();
+	private static final SingleFlight<String, JsonElement> TREE_FLIGHT = new SingleFlight<>();
+	private static final SingleFlight<String, CardPage> PAGE_FLIGHT = new SingleFlight<>(CardPage::copy);
+	private static final SingleFlight<String, MtgCardInformation> CARD_FLIGHT = new SingleFlight<>(
+			MtgCardInformation::copy);
+
+	/**
+	 * Decodes a response body from the tokens of a {@link JsonBinder}.
+	 */
+	private interface BodyDecoder<T> {
+		T decode(JsonBinder jsonBinder) throws IOException;
+	}
 
 	private static String createCardSearchUrl(String urlString, boolean includeExtras, boolean includeAllLanguages,
-			boolean includeReprints) throws UnsupportedEncodingException, MalformedURLException {
+			boolean includeReprints) {
 		return API + CARDS + SEARCH_QUERY
 				+ URLEncoder.encode(urlString + (includeExtras ? " include:extras" : "")
 						+ (includeAllLanguages ? " lang:any" : "") + (includeReprints ? " unique:prints" : ""),
-						"UTF-8");
+						StandardCharsets.UTF_8);
 	}
 
 	/**
+	 * Concurrent lookups of the same id share one request and one decoded card.
+	 * Every caller but the first receives its own copy, so the returned card may
+	 * be modified freely.
+	 * 
 	 * @see https://scryfall.com/docs/api/cards/id
 	 * @param id
 	 * @return {@code MtgCardInformation card}
 	 * @throws IOException
 	 */
 	public static MtgCardInformation getCardById(String id) throws IOException {
-		return new MtgCardInformation(request(API + CARDS + id).getAsJsonObject());
+		return fetch(CARD_FLIGHT, API + CARDS + id, binding(JsonBinder::readCard));
+	}
+
+	/**
+	 * Looks up many cards at once. The identifiers are split into batches of the
+	 * maximum size the collection endpoint accepts, which are requested
+	 * concurrently within the rate limit.
+	 * 
+	 * @see https://scryfall.com/docs/api/cards/collection
+	 * @param cardIdentifiers
+	 * @return {@code CardCollection cardCollection}
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public static CardCollection getCardCollection(Collection<CardIdentifier> cardIdentifiers)
+			throws IOException, InterruptedException {
+		try {
+			return getCardCollectionAsync(cardIdentifiers).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			} else if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}
 	}
 
 	/**
@@ -56,28 +138,24 @@ public class Scryfall {
 	 * @throws InterruptedException
 	 */
 	public static List<MtgCardInformation> getListAllCards() throws IOException, InterruptedException {
-		List<JsonObject> listResponses = new ArrayList<>();
-		List<MtgCardInformation> listCards = new ArrayList<>();
-		boolean firstIteration = true;
-		boolean hasMore = false;
-		String nextPage = API + CARDS;
-		do {
-			if (!firstIteration) {
-				Thread.sleep(100);
-			} else {
-				firstIteration = false;
-			}
-			JsonObject jsonResponse = request(nextPage).getAsJsonObject();
-			hasMore = JsonIO.parseBoolean(jsonResponse, "has_more");
-			nextPage = JsonIO.parseString(jsonResponse, "next_page");
-			listResponses.add(jsonResponse);
-		} while (hasMore);
-		for (JsonObject jsonResponse : listResponses) {
-			for (JsonElement jElement : jsonResponse.get("data").getAsJsonArray()) {
-				listCards.add(new MtgCardInformation(jElement.getAsJsonObject()));
-			}
-		}
-		return listCards;
+		return requestPages(API + CARDS, new ArrayList<>());
+	}
+
+	/**
+	 * Continues a paginated list at the page that failed, after the cause of the
+	 * failure has been dealt with. Since the transport already retries transient
+	 * errors, this is meant for failures that outlasted all retries.
+	 *
+	 * @param paginationException thrown by one of the paginated card lists
+	 * @return {@code List<MtgCardInformation> listCards} including the cards
+	 *         received before the failure
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public static List<MtgCardInformation> resumeListCards(PaginationException paginationException)
+			throws IOException, InterruptedException {
+		return requestPages(paginationException.getFailedPage(),
+				new ArrayList<>(paginationException.getListCards()));
 	}
 
 	/**
@@ -106,24 +184,8 @@ public class Scryfall {
 	 */
 	public static List<MtgCardInformation> getListCardsBySearch(String searchQuery, boolean includeExtras,
 			boolean includeAllLanguages, boolean includeReprints) throws IOException, InterruptedException {
-		List<MtgCardInformation> listCards = new ArrayList<>();
-		boolean firstIteration = true;
-		boolean hasMore = false;
-		String nextPage = createCardSearchUrl(searchQuery, includeExtras, includeAllLanguages, includeReprints);
-		do {
-			if (!firstIteration) {
-				Thread.sleep(100);
-			} else {
-				firstIteration = false;
-			}
-			JsonObject jsonResponse = request(nextPage).getAsJsonObject();
-			hasMore = JsonIO.parseBoolean(jsonResponse, "has_more");
-			nextPage = JsonIO.parseString(jsonResponse, "next_page");
-			for (JsonElement jElement : jsonResponse.get("data").getAsJsonArray()) {
-				listCards.add(new MtgCardInformation(jElement.getAsJsonObject()));
-			}
-		} while (hasMore);
-		return listCards;
+		return requestPages(createCardSearchUrl(searchQuery, includeExtras, includeAllLanguages, includeReprints),
+				new ArrayList<>());
 	}
 
 	/**
@@ -137,24 +199,89 @@ public class Scryfall {
 	 */
 	public static List<MtgCardInformation> getListCardsBySet(MtgSetInformation mtgSetInformation)
 			throws IOException, InterruptedException {
-		List<MtgCardInformation> listCards = new ArrayList<>();
-		boolean firstIteration = true;
-		boolean hasMore = false;
-		String nextPage = mtgSetInformation.getSearchApiUrl();
-		do {
-			if (!firstIteration) {
-				Thread.sleep(100);
-			} else {
-				firstIteration = false;
-			}
-			JsonObject jsonResponse = request(nextPage).getAsJsonObject();
-			hasMore = JsonIO.parseBoolean(jsonResponse, "has_more");
-			nextPage = JsonIO.parseString(jsonResponse, "next_page");
-			for (JsonElement jElement : jsonResponse.get("data").getAsJsonArray()) {
-				listCards.add(new MtgCardInformation(jElement.getAsJsonObject()));
-			}
-		} while (hasMore);
-		return listCards;
+		return requestPages(mtgSetInformation.getSearchApiUrl(), new ArrayList<>());
+	}
+
+	/**
+	 * Streams all cards, requesting each page only when the stream reaches it.
+	 * Short-circuiting operations such as {@code limit()} or {@code findFirst()}
+	 * leave the remaining pages unrequested. Failed requests surface as
+	 * {@link java.io.UncheckedIOException}; close the stream to stop prefetching.
+	 * 
+	 * @see https://scryfall.com/docs/api/cards/all
+	 * @return {@code Stream<MtgCardInformation> streamCards}
+	 */
+	public static Stream<MtgCardInformation> streamAllCards() {
+		return streamPages(API + CARDS);
+	}
+
+	/**
+	 * Lazily streams the cards matching the search query.
+	 * 
+	 * @see #streamAllCards()
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param searchQuery
+	 * @param includeExtras
+	 * @param includeAllLanguages
+	 * @param includeReprints
+	 * @return {@code Stream<MtgCardInformation> streamCards}
+	 */
+	public static Stream<MtgCardInformation> streamCardsBySearch(String searchQuery, boolean includeExtras,
+			boolean includeAllLanguages, boolean includeReprints) {
+		return streamPages(createCardSearchUrl(searchQuery, includeExtras, includeAllLanguages, includeReprints));
+	}
+
+	/**
+	 * Lazily streams the cards of the set.
+	 * 
+	 * @see #streamAllCards()
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param mtgSetInformation
+	 * @return {@code Stream<MtgCardInformation> streamCards}
+	 */
+	public static Stream<MtgCardInformation> streamCardsBySet(MtgSetInformation mtgSetInformation) {
+		return streamPages(mtgSetInformation.getSearchApiUrl());
+	}
+
+	/**
+	 * Publishes all cards to reactive subscribers. Pages are requested on the
+	 * {@link #getExecutor() executor} only as far as the subscriber has signalled
+	 * demand, so nothing is buffered beyond the current page.
+	 * 
+	 * @see https://scryfall.com/docs/api/cards/all
+	 * @return {@code Flow.Publisher<MtgCardInformation> publisherCards}
+	 */
+	public static Flow.Publisher<MtgCardInformation> publishAllCards() {
+		return new CardPublisher(API + CARDS, executor);
+	}
+
+	/**
+	 * Publishes the cards matching the search query to reactive subscribers.
+	 * 
+	 * @see #publishAllCards()
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param searchQuery
+	 * @param includeExtras
+	 * @param includeAllLanguages
+	 * @param includeReprints
+	 * @return {@code Flow.Publisher<MtgCardInformation> publisherCards}
+	 */
+	public static Flow.Publisher<MtgCardInformation> publishCardsBySearch(String searchQuery, boolean includeExtras,
+			boolean includeAllLanguages, boolean includeReprints) {
+		return new CardPublisher(
+				createCardSearchUrl(searchQuery, includeExtras, includeAllLanguages, includeReprints), executor);
+	}
+
+	/**
+	 * Publishes the cards of the set to reactive subscribers.
+	 * 
+	 * @see #publishAllCards()
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param mtgSetInformation
+	 * @return {@code Flow.Publisher<MtgCardInformation> publisherCards}
+	 */
+	public static Flow.Publisher<MtgCardInformation> publishCardsBySet(MtgSetInformation mtgSetInformation) {
+		return new CardPublisher(mtgSetInformation.getSearchApiUrl(), executor);
 	}
 
 	/**
@@ -190,17 +317,671 @@ public class Scryfall {
 		return new MtgSetInformation(jsonResponse);
 	}
 
-	private static JsonElement request(String urlString) throws IOException {
-		URL url = new URL(urlString);
-		LOGGER.debug("Request: {}", url.toString());
-		BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(url.openStream()));
-		StringBuilder jsonString = new StringBuilder();
-		String line;
-		while ((line = bufferedReader.readLine()) != null) {
-			jsonString.append(line);
+	/**
+	 * @see https://scryfall.com/docs/api/bulk-data/all
+	 * @return {@code List<BulkDataInformation> listBulkData}
+	 * @throws IOException
+	 */
+	public static List<BulkDataInformation> getListBulkData() throws IOException {
+		List<BulkDataInformation> listBulkData = new ArrayList<>();
+		JsonObject jsonResponse = request(API + BULK_DATA).getAsJsonObject();
+		for (JsonElement jElement : jsonResponse.get("data").getAsJsonArray()) {
+			listBulkData.add(new BulkDataInformation(jElement.getAsJsonObject()));
 		}
-		bufferedReader.close();
-		LOGGER.trace("Response: {}", jsonString.toString());
-		return new JsonParser().parse(jsonString.toString());
+		return listBulkData;
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/bulk-data/type
+	 * @param bulkDataType
+	 * @return {@code BulkDataInformation bulkData}
+	 * @throws IOException
+	 */
+	public static BulkDataInformation getBulkData(BulkDataType bulkDataType) throws IOException {
+		return new BulkDataInformation(request(API + BULK_DATA + "/" + bulkDataType.getId()).getAsJsonObject());
+	}
+
+	/**
+	 * Downloads the current file of the given type.
+	 * 
+	 * @see #downloadBulkData(BulkDataInformation, Path)
+	 * @param bulkDataType
+	 * @param target       file to write the bulk data to
+	 * @return {@code Path target}
+	 * @throws IOException
+	 */
+	public static Path downloadBulkData(BulkDataType bulkDataType, Path target) throws IOException {
+		return downloadBulkData(getBulkData(bulkDataType), target);
+	}
+
+	/**
+	 * Downloads a bulk data file to disk without holding it in memory. The file
+	 * is written to a {@code .part} file next to the target first, which is
+	 * moved to the target once complete. An interrupted download, whether in
+	 * this call or in an earlier one, continues where it stopped instead of
+	 * starting over. If the target is at least as recent as the bulk data, it
+	 * is not downloaded again.
+	 * 
+	 * @see https://scryfall.com/docs/api/bulk-data
+	 * @param bulkData
+	 * @param target   file to write the bulk data to
+	 * @return {@code Path target}
+	 * @throws IOException
+	 */
+	public static Path downloadBulkData(BulkDataInformation bulkData, Path target) throws IOException {
+		FileTime updatedAt = bulkData.getUpdatedAt() != null ? FileTime.from(bulkData.getUpdatedAt().toInstant())
+				: null;
+		if (updatedAt != null && Files.exists(target) && Files.getLastModifiedTime(target).compareTo(updatedAt) >= 0) {
+			LOGGER.debug("Bulk data is up to date: {}", target);
+			return target;
+		}
+		String url = bulkData.getDownloadUrl();
+		// the download url changes with every update, so a part file never mixes two versions
+		Path part = target.resolveSibling(target.getFileName() + "." + url.substring(url.lastIndexOf('/') + 1)
+				+ ".part");
+		int attempts = 0;
+		while (true) {
+			long offset = Files.exists(part) ? Files.size(part) : 0;
+			LOGGER.debug("Download: {} from byte {}", url, offset);
+			try (InputStream body = transport.getFrom(url, offset);
+					OutputStream out = Files.newOutputStream(part, StandardOpenOption.CREATE,
+							StandardOpenOption.APPEND)) {
+				body.transferTo(out);
+				break;
+			} catch (InterruptedIOException e) {
+				throw e;
+			} catch (IOException e) {
+				long received = Files.exists(part) ? Files.size(part) : 0;
+				attempts = received > offset ? 1 : attempts + 1;
+				if (attempts > BULK_DATA_MAX_ATTEMPTS) {
+					throw e;
+				}
+				LOGGER.warn("Download of {} interrupted at byte {}, resuming: {}", url, received, e.toString());
+			}
+		}
+		Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		if (updatedAt != null) {
+			Files.setLastModifiedTime(target, updatedAt);
+		}
+		return target;
+	}
+
+	/**
+	 * Converts all cards of a downloaded bulk data file in parallel, using the
+	 * executor if it is a {@link ForkJoinPool} or the common pool otherwise.
+	 * 
+	 * @see #forEachBulkCard(Path, Consumer, boolean)
+	 * @param file bulk data file of cards
+	 * @return {@code List<MtgCardInformation> listCards} in the order of the file
+	 * @throws IOException
+	 */
+	public static List<MtgCardInformation> loadBulkCards(Path file) throws IOException {
+		return new ParallelBulkLoader(file, bulkPool(), ParallelBulkLoader.DEFAULT_CHUNK_SIZE, false).load();
+	}
+
+	/**
+	 * Loads all cards of a downloaded bulk data file like
+	 * {@link #loadBulkCards(Path)}, but as {@link LazyMtgCardInformation} cards
+	 * that only decode their fields when they are read.
+	 * 
+	 * @param file bulk data file of cards
+	 * @return {@code List<MtgCardInformation> listCards} in the order of the file
+	 * @throws IOException
+	 */
+	public static List<MtgCardInformation> loadLazyBulkCards(Path file) throws IOException {
+		return new ParallelBulkLoader(file, bulkPool(), ParallelBulkLoader.DEFAULT_CHUNK_SIZE, true).load();
+	}
+
+	/**
+	 * Converts the cards of a downloaded bulk data file in parallel and passes
+	 * them to the action. The file is memory-mapped and split between the
+	 * elements of its top-level array into chunks that are converted on the
+	 * executor if it is a {@link ForkJoinPool} or on the common pool otherwise.
+	 * Gzip-compressed files are read sequentially.
+	 * 
+	 * @param file    bulk data file of cards
+	 * @param action  receives the cards; if unordered, it is called
+	 *                concurrently and has to be thread-safe
+	 * @param ordered {@code true} to receive the cards on the calling thread in
+	 *                the order of the file
+	 * @throws IOException
+	 */
+	public static void forEachBulkCard(Path file, Consumer<? super MtgCardInformation> action, boolean ordered)
+			throws IOException {
+		new ParallelBulkLoader(file, bulkPool(), ParallelBulkLoader.DEFAULT_CHUNK_SIZE, false).forEach(action,
+				ordered);
+	}
+
+	private static ForkJoinPool bulkPool() {
+		Executor executor = Scryfall.executor;
+		return executor instanceof ForkJoinPool ? (ForkJoinPool) executor : ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Streams the cards of a downloaded bulk data file, converting one card at a
+	 * time, so that even the largest files are read in constant memory. Read
+	 * failures surface as {@link java.io.UncheckedIOException}; close the stream
+	 * to close the file.
+	 * 
+	 * @see #downloadBulkData(BulkDataInformation, Path)
+	 * @param file bulk data file of cards, plain or gzip-compressed
+	 * @return {@code Stream<MtgCardInformation> streamCards}
+	 * @throws IOException
+	 */
+	public static Stream<MtgCardInformation> streamBulkCards(Path file) throws IOException {
+		BulkCardReader bulkCardReader = new BulkCardReader(file);
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(bulkCardReader, Spliterator.ORDERED | Spliterator.NONNULL),
+						false)
+				.onClose(() -> {
+					try {
+						bulkCardReader.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	/**
+	 * @see #getCardById(String)
+	 * @see https://scryfall.com/docs/api/cards/id
+	 * @param id
+	 * @return {@code CompletableFuture<MtgCardInformation> card}
+	 */
+	public static CompletableFuture<MtgCardInformation> getCardByIdAsync(String id) {
+		return fetchAsync(CARD_FLIGHT, API + CARDS + id, binding(JsonBinder::readCard));
+	}
+
+	/**
+	 * @see #getCardCollection(Collection)
+	 * @see https://scryfall.com/docs/api/cards/collection
+	 * @param cardIdentifiers
+	 * @return {@code CompletableFuture<CardCollection> cardCollection}
+	 */
+	public static CompletableFuture<CardCollection> getCardCollectionAsync(Collection<CardIdentifier> cardIdentifiers) {
+		List<CardIdentifier> listIdentifiers = new ArrayList<>(new LinkedHashSet<>(cardIdentifiers));
+		List<CompletableFuture<CardCollection>> listBatches = new ArrayList<>();
+		for (int from = 0; from < listIdentifiers.size(); from += COLLECTION_BATCH_SIZE) {
+			List<CardIdentifier> listBatch = listIdentifiers.subList(from,
+					Math.min(from + COLLECTION_BATCH_SIZE, listIdentifiers.size()));
+			JsonArray jIdentifiers = new JsonArray();
+			for (CardIdentifier cardIdentifier : listBatch) {
+				jIdentifiers.add(cardIdentifier.toJson());
+			}
+			JsonObject jsonRequest = new JsonObject();
+			jsonRequest.add("identifiers", jIdentifiers);
+			listBatches.add(fetchAsync(API + CARDS + COLLECTION, jsonRequest.toString(),
+					binding(JsonBinder::readCardPage))
+					.thenApply(cardPage -> matchCollection(listBatch, cardPage.getListCards())));
+		}
+		return CompletableFuture.allOf(listBatches.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+			Map<CardIdentifier, MtgCardInformation> mapCards = new LinkedHashMap<>();
+			List<CardIdentifier> listNotFound = new ArrayList<>();
+			for (CompletableFuture<CardCollection> batch : listBatches) {
+				mapCards.putAll(batch.join().getMapCards());
+				listNotFound.addAll(batch.join().getListNotFound());
+			}
+			return new CardCollection(mapCards, listNotFound);
+		});
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/cards/all
+	 * @return {@code CompletableFuture<List<MtgCardInformation>> listCards}
+	 */
+	public static CompletableFuture<List<MtgCardInformation>> getListAllCardsAsync() {
+		return requestPagesAsync(API + CARDS, new ArrayList<>());
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/sets/all
+	 * @return {@code CompletableFuture<List<MtgSetInformation>> listAllSets}
+	 */
+	public static CompletableFuture<List<MtgSetInformation>> getListAllSetsAsync() {
+		return requestAsync(API + SETS).thenApply(jElement -> {
+			List<MtgSetInformation> listAllSets = new ArrayList<>();
+			for (JsonElement jSet : jElement.getAsJsonObject().get("data").getAsJsonArray()) {
+				listAllSets.add(new MtgSetInformation(jSet.getAsJsonObject()));
+			}
+			return listAllSets;
+		});
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param searchQuery
+	 * @param includeExtras
+	 * @param includeAllLanguages
+	 * @param includeReprints
+	 * @return {@code CompletableFuture<List<MtgCardInformation>> listCards}
+	 */
+	public static CompletableFuture<List<MtgCardInformation>> searchAsync(String searchQuery, boolean includeExtras,
+			boolean includeAllLanguages, boolean includeReprints) {
+		return requestPagesAsync(createCardSearchUrl(searchQuery, includeExtras, includeAllLanguages, includeReprints),
+				new ArrayList<>());
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/cards/search
+	 * @param mtgSetInformation
+	 * @return {@code CompletableFuture<List<MtgCardInformation>> listCards}
+	 */
+	public static CompletableFuture<List<MtgCardInformation>> getListCardsBySetAsync(
+			MtgSetInformation mtgSetInformation) {
+		return requestPagesAsync(mtgSetInformation.getSearchApiUrl(), new ArrayList<>());
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/sets/code
+	 * @param setCode
+	 * @return {@code CompletableFuture<MtgSetInformation> mtgSetInformation}
+	 */
+	public static CompletableFuture<MtgSetInformation> getSetByCodeAsync(String setCode) {
+		return requestAsync(API + SETS + setCode)
+				.thenApply(jElement -> new MtgSetInformation(jElement.getAsJsonObject()));
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/sets/id
+	 * @param id
+	 * @return {@code CompletableFuture<MtgSetInformation> mtgSetInformation}
+	 */
+	public static CompletableFuture<MtgSetInformation> getSetByIdAsync(String id) {
+		return requestAsync(API + SETS + id).thenApply(jElement -> new MtgSetInformation(jElement.getAsJsonObject()));
+	}
+
+	/**
+	 * @see https://scryfall.com/docs/api/sets/tcgplayer
+	 * @param id
+	 * @return {@code CompletableFuture<MtgSetInformation> mtgSetInformation}
+	 */
+	public static CompletableFuture<MtgSetInformation> getSetByTcgPlayerIdAsync(String id) {
+		return requestAsync(API + SETS + "tcgplayer/" + id)
+				.thenApply(jElement -> new MtgSetInformation(jElement.getAsJsonObject()));
+	}
+
+	/**
+	 * @return {@code Executor executor} that parses responses of the
+	 *         asynchronous methods
+	 */
+	public static Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Replaces the executor that parses responses and runs the continuations of
+	 * the asynchronous methods. Waiting for the network or the rate limit does
+	 * not occupy any of its threads.
+	 * 
+	 * @param executor
+	 */
+	public static void setExecutor(Executor executor) {
+		if (executor == null) {
+			throw new IllegalArgumentException("executor must not be null");
+		}
+		Scryfall.executor = executor;
+	}
+
+	/**
+	 * @return {@code int pagePrefetch} number of pages requested ahead while
+	 *         paginating
+	 */
+	public static int getPagePrefetch() {
+		return pagePrefetch;
+	}
+
+	/**
+	 * Sets how many pages of a paginated result may be requested ahead of the
+	 * page that is currently converted. {@code 0} requests each page only after
+	 * the previous one has been converted.
+	 * 
+	 * @param pagePrefetch
+	 */
+	public static void setPagePrefetch(int pagePrefetch) {
+		if (pagePrefetch < 0) {
+			throw new IllegalArgumentException("pagePrefetch must not be negative: " + pagePrefetch);
+		}
+		Scryfall.pagePrefetch = pagePrefetch;
+	}
+
+	/**
+	 * @return {@code JsonRetention jsonRetention} of cards and sets created from
+	 *         now on
+	 */
+	public static JsonRetention getJsonRetention() {
+		return jsonRetention;
+	}
+
+	/**
+	 * Sets how cards and sets created from now on keep the JSON returned by
+	 * their {@code getJsonString()}. The default is
+	 * {@link JsonRetention#COMPRESSED}, which keeps a full card catalog in memory
+	 * at a fraction of the size of plain strings. Use {@link JsonRetention#NONE}
+	 * if the JSON is never needed.
+	 * 
+	 * @param jsonRetention
+	 */
+	public static void setJsonRetention(JsonRetention jsonRetention) {
+		if (jsonRetention == null) {
+			throw new IllegalArgumentException("jsonRetention must not be null");
+		}
+		Scryfall.jsonRetention = jsonRetention;
+	}
+
+	/**
+	 * @return {@code StringPool stringPool} deduplicating repetitive card fields
+	 */
+	public static StringPool getStringPool() {
+		return stringPool;
+	}
+
+	/**
+	 * Replaces the pool deduplicating the values of repetitive card fields, e.g.
+	 * to change its size or to release the values held by the current one. A
+	 * {@code new StringPool(0)} disables pooling.
+	 * 
+	 * @param stringPool
+	 */
+	public static void setStringPool(StringPool stringPool) {
+		if (stringPool == null) {
+			throw new IllegalArgumentException("stringPool must not be null");
+		}
+		Scryfall.stringPool = stringPool;
+	}
+
+	public static boolean isCompactUrls() {
+		return compactUrls;
+	}
+
+	/**
+	 * Enables the compact url mode for cards and sets created from now on. Url
+	 * fields that are the canonical urls of their object, e.g.
+	 * {@code https://api.scryfall.com/cards/<id>}, are then not stored but
+	 * rebuilt from the ids and codes whenever their getter is called. Urls that
+	 * differ from their canonical form are stored as before.
+	 * 
+	 * @param compactUrls
+	 */
+	public static void setCompactUrls(boolean compactUrls) {
+		Scryfall.compactUrls = compactUrls;
+	}
+
+	/**
+	 * @return {@code DecodeErrors decodeErrors} collecting the cards that could
+	 *         not be decoded
+	 */
+	public static DecodeErrors getDecodeErrors() {
+		return decodeErrors;
+	}
+
+	/**
+	 * Replaces the collector of the cards that could not be decoded, e.g. to
+	 * inspect the errors of a single search or bulk load in isolation.
+	 *
+	 * @param decodeErrors
+	 */
+	public static void setDecodeErrors(DecodeErrors decodeErrors) {
+		if (decodeErrors == null) {
+			throw new IllegalArgumentException("decodeErrors must not be null");
+		}
+		Scryfall.decodeErrors = decodeErrors;
+	}
+
+	/**
+	 * @return {@code ScryfallTransport transport} used for all requests
+	 */
+	public static ScryfallTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * Replaces the transport used for all requests, e.g. to change timeouts and
+	 * pool size or to point the API at a different server. The default transport
+	 * is an {@link HttpTransport} wrapped in a {@link ResilientTransport}; wrap a
+	 * replacement the same way to keep retries and the circuit breaker.
+	 * 
+	 * @param transport
+	 */
+	public static void setTransport(ScryfallTransport transport) {
+		if (transport == null) {
+			throw new IllegalArgumentException("transport must not be null");
+		}
+		Scryfall.transport = transport;
+	}
+
+	/**
+	 * @return {@code RateLimiter rateLimiter} shared by all requests
+	 */
+	public static RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * Replaces the rate limiter shared by all requests of this process,
+	 * including the retries of the default {@link ResilientTransport}.
+	 * 
+	 * @param rateLimiter
+	 */
+	public static void setRateLimiter(RateLimiter rateLimiter) {
+		if (rateLimiter == null) {
+			throw new IllegalArgumentException("rateLimiter must not be null");
+		}
+		Scryfall.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * @return {@code long requestCount} of GET requests asked for, including
+	 *         coalesced ones
+	 */
+	public static long getRequestCount() {
+		return TREE_FLIGHT.getCalls() + PAGE_FLIGHT.getCalls() + CARD_FLIGHT.getCalls();
+	}
+
+	/**
+	 * @return {@code long coalescedCount} of GET requests that were served by
+	 *         joining an identical request already in flight, sharing both its
+	 *         response and its decoded result
+	 */
+	public static long getCoalescedCount() {
+		return TREE_FLIGHT.getCoalesced() + PAGE_FLIGHT.getCoalesced() + CARD_FLIGHT.getCoalesced();
+	}
+
+	/**
+	 * Requests a url and parses the response into a tree. Concurrent calls share
+	 * one tree, which must therefore not be modified.
+	 */
+	static JsonElement request(String urlString) throws IOException {
+		return fetch(TREE_FLIGHT, urlString, Scryfall::parse);
+	}
+
+	/**
+	 * @see #request(String)
+	 */
+	static CompletableFuture<JsonElement> requestAsync(String urlString) {
+		return fetchAsync(TREE_FLIGHT, urlString, Scryfall::parse);
+	}
+
+	/**
+	 * Requests a page of a list of cards and decodes its cards from the
+	 * response, without building a tree first. Concurrent calls share one
+	 * decoded page, of which every caller but the first receives a copy.
+	 */
+	static CardPage requestPage(String urlString) throws IOException {
+		return fetch(PAGE_FLIGHT, urlString, binding(JsonBinder::readCardPage));
+	}
+
+	/**
+	 * @see #requestPage(String)
+	 */
+	static CompletableFuture<CardPage> requestPageAsync(String urlString) {
+		return requestPageAsync(urlString, null);
+	}
+
+	/**
+	 * @see #requestPage(String)
+	 * @param onNextPage called with the url of the next page while the cards of
+	 *                   this page are still being decoded. It is not called if
+	 *                   the request joined one already in flight, so the
+	 *                   completed page has to be checked for a next page too.
+	 */
+	static CompletableFuture<CardPage> requestPageAsync(String urlString, Consumer<String> onNextPage) {
+		return fetchAsync(PAGE_FLIGHT, urlString, binding(jsonBinder -> jsonBinder.readCardPage(onNextPage)));
+	}
+
+	/**
+	 * Concurrent calls for the same url share one request and its result, which
+	 * is read from the response only once. The body is read by the transport,
+	 * so that a retrying transport also retries a failure while reading it.
+	 */
+	private static <T> T fetch(SingleFlight<String, T> singleFlight, String urlString, BodyReader<T> bodyReader)
+			throws IOException {
+		return singleFlight.execute(urlString, () -> {
+			rateLimiter.acquire();
+			LOGGER.debug("Request: {}", urlString);
+			return transport.get(urlString, traced(bodyReader));
+		});
+	}
+
+	/**
+	 * @see #fetch(SingleFlight, String, BodyReader)
+	 */
+	private static <T> CompletableFuture<T> fetchAsync(SingleFlight<String, T> singleFlight, String urlString,
+			BodyReader<T> bodyReader) {
+		return singleFlight.executeAsync(urlString, () -> fetchAsync(urlString, null, bodyReader));
+	}
+
+	private static <T> CompletableFuture<T> fetchAsync(String urlString, String jsonBody, BodyReader<T> bodyReader) {
+		Executor executor = Scryfall.executor;
+		return rateLimiter.acquireAsync(executor).thenCompose(permit -> {
+			LOGGER.debug("Request: {}", urlString);
+			return jsonBody == null ? transport.getAsync(urlString, traced(bodyReader), executor)
+					: transport.postAsync(urlString, jsonBody, traced(bodyReader), executor);
+		});
+	}
+
+	private static List<MtgCardInformation> requestPages(String firstPage, List<MtgCardInformation> listCards)
+			throws IOException, InterruptedException {
+		CardIterator cardIterator = new CardIterator(firstPage, pagePrefetch);
+		try {
+			MtgCardInformation card;
+			while ((card = cardIterator.nextCard()) != null) {
+				listCards.add(card);
+			}
+		} catch (IOException e) {
+			String failedPage = cardIterator.getFailedPage();
+			if (failedPage == null) {
+				throw e;
+			}
+			throw new PaginationException(failedPage, listCards, e);
+		} finally {
+			cardIterator.close();
+		}
+		return listCards;
+	}
+
+	private static Stream<MtgCardInformation> streamPages(String firstPage) {
+		CardIterator cardIterator = new CardIterator(firstPage, pagePrefetch);
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(cardIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+						false)
+				.onClose(cardIterator::close);
+	}
+
+	private static CompletableFuture<List<MtgCardInformation>> requestPagesAsync(String urlString,
+			List<MtgCardInformation> listCards) {
+		CompletableFuture<CardPage> page = requestPageAsync(urlString).handle((cardPage, throwable) -> {
+			if (throwable == null) {
+				return cardPage;
+			}
+			Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+					? throwable.getCause()
+					: throwable;
+			if (cause instanceof IOException) {
+				throw new CompletionException(new PaginationException(urlString, listCards, cause));
+			}
+			throw new CompletionException(cause);
+		});
+		return page.thenCompose(cardPage -> {
+			listCards.addAll(cardPage.getListCards());
+			if (cardPage.hasMore()) {
+				return requestPagesAsync(cardPage.getNextPage(), listCards);
+			}
+			return CompletableFuture.completedFuture(listCards);
+		});
+	}
+
+	/**
+	 * Assigns the cards of a collection response to the identifiers of its
+	 * batch. Scryfall returns the cards in the order they were requested, so the
+	 * next card is tried first before all cards are searched.
+	 */
+	private static CardCollection matchCollection(List<CardIdentifier> listBatch,
+			List<MtgCardInformation> listCards) {
+		Map<CardIdentifier, MtgCardInformation> mapCards = new LinkedHashMap<>();
+		List<CardIdentifier> listNotFound = new ArrayList<>();
+		int position = 0;
+		for (CardIdentifier cardIdentifier : listBatch) {
+			MtgCardInformation match = null;
+			if (position < listCards.size() && cardIdentifier.matches(listCards.get(position))) {
+				match = listCards.get(position++);
+			} else {
+				for (MtgCardInformation card : listCards) {
+					if (cardIdentifier.matches(card)) {
+						match = card;
+						break;
+					}
+				}
+			}
+			if (match != null) {
+				mapCards.put(cardIdentifier, match);
+			} else {
+				listNotFound.add(cardIdentifier);
+			}
+		}
+		return new CardCollection(mapCards, listNotFound);
+	}
+
+	/**
+	 * Body readers read the result straight from the response stream, so
+	 * decoding overlaps with the transfer and the body is never held in memory
+	 * as a whole. Only while TRACE is enabled, the body is copied for logging.
+	 */
+	private static <T> BodyReader<T> traced(BodyReader<T> bodyReader) {
+		if (!LOGGER.isTraceEnabled()) {
+			return bodyReader;
+		}
+		return body -> {
+			try (InputStream in = new TracingInputStream(body, LOGGER)) {
+				return bodyReader.read(in);
+			}
+		};
+	}
+
+	/**
+	 * Malformed JSON is reported unchecked, while failures of the stream remain
+	 * {@link IOException}s, so only the latter are retried.
+	 */
+	private static JsonElement parse(InputStream body) throws IOException {
+		try {
+			return new JsonParser().parse(new InputStreamReader(body, StandardCharsets.UTF_8));
+		} catch (JsonIOException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * @see #parse(InputStream)
+	 */
+	private static <T> BodyReader<T> binding(BodyDecoder<T> bodyDecoder) {
+		return body -> {
+			try (JsonReader jsonReader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+				return bodyDecoder.decode(new JsonBinder(jsonReader));
+			} catch (MalformedJsonException e) {
+				throw new JsonSyntaxException(e);
+			}
+		};
 	}
 }
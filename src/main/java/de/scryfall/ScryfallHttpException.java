@@ -0,0 +1,49 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Signals that the server answered a request with an error status.
+ *
+ * @see https://scryfall.com/docs/api/errors
+ * @author QUE
+ *
+ */
+public class ScryfallHttpException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	private final String url;
+	private final int statusCode;
+	private final Duration retryAfter;
+
+	public ScryfallHttpException(String url, int statusCode, Duration retryAfter) {
+		super("Server returned HTTP response code: " + statusCode + " for URL: " + url);
+		this.url = url;
+		this.statusCode = statusCode;
+		this.retryAfter = retryAfter;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * @return {@code Duration retryAfter} requested by the server or
+	 *         {@code null} if it did not send a Retry-After header
+	 */
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+	/**
+	 * @return {@code true} for 429 Too Many Requests and 5xx server errors
+	 */
+	public boolean isRetryable() {
+		return statusCode == 429 || statusCode >= 500;
+	}
+}
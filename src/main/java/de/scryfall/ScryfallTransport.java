@@ -0,0 +1,180 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * A ScryfallTransport performs the HTTP requests issued by {@link Scryfall}.
+ * Implementations have to be thread-safe, as a single instance is shared by
+ * all callers.
+ *
+ * @see Scryfall#setTransport(ScryfallTransport)
+ * @author QUE
+ *
+ */
+public interface ScryfallTransport {
+	/**
+	 * Converts a response body into a result. Failures to read the body are
+	 * reported as {@link IOException}, invalid content as an unchecked exception,
+	 * so that transports retrying requests can tell both apart.
+	 */
+	interface BodyReader<T> {
+		T read(InputStream body) throws IOException;
+	}
+
+	/**
+	 * Performs a GET request and returns the response body. The caller is
+	 * responsible for closing the returned stream.
+	 *
+	 * @param url
+	 * @return {@code InputStream body}
+	 * @throws IOException if the request fails or the server responds with an
+	 *                     error status
+	 */
+	InputStream get(String url) throws IOException;
+
+	/**
+	 * Performs a GET request and reads its response body, which is closed
+	 * afterwards. Reading the body is part of the request, so transports that
+	 * retry requests also retry failures while the body is read.
+	 *
+	 * @param url
+	 * @param bodyReader
+	 * @return {@code T result} of the body reader
+	 * @throws IOException if the request or reading the body fails or the
+	 *                     server responds with an error status
+	 */
+	default <T> T get(String url, BodyReader<T> bodyReader) throws IOException {
+		try (InputStream body = get(url)) {
+			return bodyReader.read(body);
+		}
+	}
+
+	/**
+	 * Performs a GET request without blocking the calling thread. The default
+	 * implementation runs {@link #get(String)} on the common pool; transports
+	 * with non-blocking I/O should override it.
+	 *
+	 * @param url
+	 * @return {@code CompletableFuture<InputStream> body}
+	 */
+	default CompletableFuture<InputStream> getAsync(String url) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return get(url);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Performs a GET request without blocking the calling thread and reads its
+	 * response body on the given executor.
+	 *
+	 * @see #get(String, BodyReader)
+	 * @param url
+	 * @param bodyReader
+	 * @param executor
+	 * @return {@code CompletableFuture<T> result} of the body reader
+	 */
+	default <T> CompletableFuture<T> getAsync(String url, BodyReader<T> bodyReader, Executor executor) {
+		return getAsync(url).thenApplyAsync(body -> read(body, bodyReader), executor);
+	}
+
+	/**
+	 * Performs a GET request for a file and returns its bytes starting at
+	 * {@code offset}, so that an interrupted download can be resumed. The
+	 * default implementation can only start at the beginning of the file.
+	 *
+	 * @param url
+	 * @param offset number of bytes already downloaded
+	 * @return {@code InputStream body} positioned at {@code offset}
+	 * @throws IOException if the request fails or the server responds with an
+	 *                     error status
+	 */
+	default InputStream getFrom(String url, long offset) throws IOException {
+		if (offset != 0) {
+			throw new IOException("Range requests are not supported by " + getClass().getName());
+		}
+		return get(url);
+	}
+
+	/**
+	 * Performs a POST request with a JSON body and returns the response body.
+	 * The default implementation does not support POST requests.
+	 *
+	 * @param url
+	 * @param jsonBody
+	 * @return {@code InputStream body}
+	 * @throws IOException if the request fails or the server responds with an
+	 *                     error status
+	 */
+	default InputStream post(String url, String jsonBody) throws IOException {
+		throw new IOException("POST requests are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Performs a POST request with a JSON body and reads its response body,
+	 * which is closed afterwards.
+	 *
+	 * @see #get(String, BodyReader)
+	 * @param url
+	 * @param jsonBody
+	 * @param bodyReader
+	 * @return {@code T result} of the body reader
+	 * @throws IOException if the request or reading the body fails or the
+	 *                     server responds with an error status
+	 */
+	default <T> T post(String url, String jsonBody, BodyReader<T> bodyReader) throws IOException {
+		try (InputStream body = post(url, jsonBody)) {
+			return bodyReader.read(body);
+		}
+	}
+
+	/**
+	 * Performs a POST request with a JSON body without blocking the calling
+	 * thread. The default implementation runs {@link #post(String, String)} on
+	 * the common pool.
+	 *
+	 * @param url
+	 * @param jsonBody
+	 * @return {@code CompletableFuture<InputStream> body}
+	 */
+	default CompletableFuture<InputStream> postAsync(String url, String jsonBody) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return post(url, jsonBody);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Performs a POST request with a JSON body without blocking the calling
+	 * thread and reads its response body on the given executor.
+	 *
+	 * @see #get(String, BodyReader)
+	 * @param url
+	 * @param jsonBody
+	 * @param bodyReader
+	 * @param executor
+	 * @return {@code CompletableFuture<T> result} of the body reader
+	 */
+	default <T> CompletableFuture<T> postAsync(String url, String jsonBody, BodyReader<T> bodyReader,
+			Executor executor) {
+		return postAsync(url, jsonBody).thenApplyAsync(body -> read(body, bodyReader), executor);
+	}
+
+	private static <T> T read(InputStream body, BodyReader<T> bodyReader) {
+		try (body) {
+			return bodyReader.read(body);
+		} catch (IOException e) {
+			throw new CompletionException(e);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * SingleFlight deduplicates concurrent calls for the same key. While a call is
+ * in flight, every further call for its key waits for and shares the same
+ * result instead of starting its own. Results are not cached beyond the
+ * completion of the call. The caller that started a call receives its result
+ * as is, every caller that joined it receives the result passed through the
+ * share operator, so that mutable results need not be shared.
+ *
+ * @author QUE
+ *
+ */
+class SingleFlight<K, V> {
+	private final ConcurrentMap<K, CompletableFuture<V>> mapInFlight = new ConcurrentHashMap<>();
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final UnaryOperator<V> share;
+
+	interface Call<V> {
+		V call() throws IOException;
+	}
+
+	/**
+	 * Shares results as they are, which is only safe for results that are not
+	 * modified.
+	 */
+	SingleFlight() {
+		this(UnaryOperator.identity());
+	}
+
+	/**
+	 * @param share applied to the result for every caller that joined a call in
+	 *              flight, e.g. to copy it
+	 */
+	SingleFlight(UnaryOperator<V> share) {
+		this.share = share;
+	}
+
+	/**
+	 * Runs the call on the current thread, unless a call for the same key is
+	 * already in flight, in which case its result is awaited.
+	 */
+	V execute(K key, Call<V> call) throws IOException {
+		calls.increment();
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = mapInFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			coalesced.increment();
+			return share.apply(await(existing));
+		}
+		try {
+			V result = call.call();
+			flight.complete(result);
+			return result;
+		} catch (IOException | RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			mapInFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Starts the asynchronous call, unless a call for the same key is already in
+	 * flight, in which case its future is shared.
+	 */
+	CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+		calls.increment();
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = mapInFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			coalesced.increment();
+			return existing.thenApply(share);
+		}
+		try {
+			call.get().whenComplete((result, throwable) -> {
+				mapInFlight.remove(key, flight);
+				if (throwable != null) {
+					flight.completeExceptionally(throwable);
+				} else {
+					flight.complete(result);
+				}
+			});
+		} catch (RuntimeException | Error e) {
+			mapInFlight.remove(key, flight);
+			flight.completeExceptionally(e);
+		}
+		return flight;
+	}
+
+	long getCalls() {
+		return calls.sum();
+	}
+
+	long getCoalesced() {
+		return coalesced.sum();
+	}
+
+	private static <V> V await(CompletableFuture<V> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException interruptedIOException = new InterruptedIOException(
+					"Interrupted while waiting for a coalesced request");
+			interruptedIOException.initCause(e);
+			throw interruptedIOException;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package de.scryfall;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StringPool deduplicates the values of fields that repeat across many cards,
+ * such as artists, set names, type lines or mana costs. Decoded values are
+ * replaced by an equal string already held by the pool, so that a catalog
+ * retains every distinct value only once.
+ * <p>
+ * Values are pooled per JSON field name. Each field holds at most about
+ * {@code maxSize} distinct values; once it is full, further new values are
+ * passed through unpooled. The pool counts lookups, hits and the heap bytes
+ * its hits saved per field.
+ *
+ * @see Scryfall#setStringPool(StringPool)
+ * @author QUE
+ *
+ */
+public class StringPool {
+	public static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+	/**
+	 * Object header, hash and coder of a String plus the header of its array.
+	 */
+	private static final int STRING_OVERHEAD = 24 + 16;
+
+	private final int maxSize;
+	private final ConcurrentMap<String, Pool> mapPools = new ConcurrentHashMap<>();
+
+	public StringPool() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize distinct values held per field, {@code 0} to only count
+	 *                the lookups without pooling
+	 */
+	public StringPool(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param fieldName JSON field name the value was read from
+	 * @param value
+	 * @return {@code String value} held by the pool if an equal one is
+	 *         present, otherwise the value itself
+	 */
+	String intern(String fieldName, String value) {
+		if (value == null) {
+			return null;
+		}
+		Pool pool = mapPools.computeIfAbsent(fieldName, key -> new Pool());
+		pool.lookups.increment();
+		String pooled = pool.values.get(value);
+		if (pooled == null) {
+			if (pool.values.size() >= maxSize || (pooled = pool.values.putIfAbsent(value, value)) == null) {
+				return value;
+			}
+		}
+		pool.hits.increment();
+		pool.savedBytes.add(sizeOf(pooled));
+		return pooled;
+	}
+
+	/**
+	 * @return the retained heap size of a compact String on a 64 bit JVM with
+	 *         compressed references
+	 */
+	private static long sizeOf(String value) {
+		int length = value.length();
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) > 0xff) {
+				length = 2 * value.length();
+				break;
+			}
+		}
+		return STRING_OVERHEAD + ((length + 7) & ~7);
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public Set<String> getFieldNames() {
+		return new TreeSet<>(mapPools.keySet());
+	}
+
+	/**
+	 * @param fieldName
+	 * @return {@code int size} of distinct values held for the field
+	 */
+	public int getSize(String fieldName) {
+		Pool pool = mapPools.get(fieldName);
+		return pool != null ? pool.values.size() : 0;
+	}
+
+	public long getLookups(String fieldName) {
+		Pool pool = mapPools.get(fieldName);
+		return pool != null ? pool.lookups.sum() : 0;
+	}
+
+	/**
+	 * @param fieldName
+	 * @return {@code long hits} of lookups that returned a pooled value instead
+	 *         of the decoded one
+	 */
+	public long getHits(String fieldName) {
+		Pool pool = mapPools.get(fieldName);
+		return pool != null ? pool.hits.sum() : 0;
+	}
+
+	/**
+	 * @param fieldName
+	 * @return {@code long savedBytes} of heap the decoded duplicates would have
+	 *         retained, had they not been replaced by pooled values
+	 */
+	public long getSavedBytes(String fieldName) {
+		Pool pool = mapPools.get(fieldName);
+		return pool != null ? pool.savedBytes.sum() : 0;
+	}
+
+	public long getSavedBytes() {
+		long savedBytes = 0;
+		for (Pool pool : mapPools.values()) {
+			savedBytes += pool.savedBytes.sum();
+		}
+		return savedBytes;
+	}
+
+	/**
+	 * Releases all pooled values and resets the counters. Values already
+	 * handed out stay shared by the objects holding them.
+	 */
+	public void clear() {
+		mapPools.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder("StringPool [maxSize=").append(maxSize)
+				.append(", savedBytes=").append(getSavedBytes());
+		for (String fieldName : getFieldNames()) {
+			stringBuilder.append(", ").append(fieldName).append("={size=").append(getSize(fieldName))
+					.append(", lookups=").append(getLookups(fieldName)).append(", hits=")
+					.append(getHits(fieldName)).append(", savedBytes=").append(getSavedBytes(fieldName))
+					.append("}");
+		}
+		return stringBuilder.append("]").toString();
+	}
+
+	private static class Pool {
+		final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+		final LongAdder lookups = new LongAdder();
+		final LongAdder hits = new LongAdder();
+		final LongAdder savedBytes = new LongAdder();
+	}
+}
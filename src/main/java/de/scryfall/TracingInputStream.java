@@ -0,0 +1,66 @@
+package de.scryfall;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps a copy of the bytes read from the wrapped stream and logs them at
+ * TRACE level once the stream is closed. It is only put in place while TRACE
+ * is enabled, so the response body is otherwise never held in memory.
+ *
+ * @author QUE
+ *
+ */
+class TracingInputStream extends FilterInputStream {
+	private final Logger logger;
+	private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+	private boolean closed;
+
+	TracingInputStream(InputStream in, Logger logger) {
+		super(in);
+		this.logger = logger;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b != -1) {
+			copy.write(b);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = super.read(b, off, len);
+		if (read > 0) {
+			copy.write(b, off, read);
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		byte[] buffer = new byte[(int) Math.min(n, 8192)];
+		long skipped = 0;
+		int read;
+		while (skipped < n && (read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped))) > 0) {
+			skipped += read;
+		}
+		return skipped;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			logger.trace("Response: {}", new String(copy.toByteArray(), StandardCharsets.UTF_8));
+		}
+		super.close();
+	}
+}
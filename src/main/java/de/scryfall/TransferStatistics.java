@@ -0,0 +1,99 @@
+package de.scryfall;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransferStatistics counts the bytes received per API endpoint, both as they
+ * were transferred over the wire and after decompression. The difference
+ * between both values is the saving gained by compressed transfers.
+ *
+ * @author QUE
+ *
+ */
+public class TransferStatistics {
+	private static final Set<String> SUB_ENDPOINTS = Set.of("search", "named", "autocomplete", "random",
+			"collection", "multiverse", "mtgo", "arena", "tcgplayer");
+
+	private final ConcurrentMap<String, Counter> mapCounters = new ConcurrentHashMap<>();
+
+	/**
+	 * Maps a request URL to the endpoint it is counted under, e.g.
+	 * {@code cards/search} for a search page or {@code cards} for a single card.
+	 */
+	static String endpointOf(String url) {
+		String path = URI.create(url).getPath();
+		if (path == null || path.isEmpty() || path.equals("/")) {
+			return "/";
+		}
+		String[] segments = path.substring(1).split("/");
+		if (segments.length > 1 && SUB_ENDPOINTS.contains(segments[1])) {
+			return segments[0] + "/" + segments[1];
+		}
+		return segments[0];
+	}
+
+	Counter counter(String endpoint) {
+		return mapCounters.computeIfAbsent(endpoint, key -> new Counter());
+	}
+
+	public Set<String> getEndpoints() {
+		return new TreeSet<>(mapCounters.keySet());
+	}
+
+	public long getRequests(String endpoint) {
+		Counter counter = mapCounters.get(endpoint);
+		return counter != null ? counter.requests.sum() : 0;
+	}
+
+	/**
+	 * @param endpoint
+	 * @return {@code long wireBytes} received for the endpoint before
+	 *         decompression
+	 */
+	public long getWireBytes(String endpoint) {
+		Counter counter = mapCounters.get(endpoint);
+		return counter != null ? counter.wireBytes.sum() : 0;
+	}
+
+	/**
+	 * @param endpoint
+	 * @return {@code long decodedBytes} received for the endpoint after
+	 *         decompression
+	 */
+	public long getDecodedBytes(String endpoint) {
+		Counter counter = mapCounters.get(endpoint);
+		return counter != null ? counter.decodedBytes.sum() : 0;
+	}
+
+	public long getSavedBytes(String endpoint) {
+		return getDecodedBytes(endpoint) - getWireBytes(endpoint);
+	}
+
+	public void reset() {
+		mapCounters.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder("TransferStatistics [");
+		String separator = "";
+		for (String endpoint : getEndpoints()) {
+			stringBuilder.append(separator).append(endpoint).append("={requests=").append(getRequests(endpoint))
+					.append(", wireBytes=").append(getWireBytes(endpoint)).append(", decodedBytes=")
+					.append(getDecodedBytes(endpoint)).append("}");
+			separator = ", ";
+		}
+		return stringBuilder.append("]").toString();
+	}
+
+	static class Counter {
+		final LongAdder requests = new LongAdder();
+		final LongAdder wireBytes = new LongAdder();
+		final LongAdder decodedBytes = new LongAdder();
+	}
+}
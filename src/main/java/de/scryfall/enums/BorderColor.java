@@ -8,15 +8,17 @@ package de.scryfall.enums;
  *
  */
 public enum BorderColor {
-	BLACK("black"), BORDERLESS("borderless"), GOLD("gold"), SILVER("silver"), WHITE("white");
+	BLACK("black"), BORDERLESS("borderless"), GOLD("gold"), SILVER("silver"), WHITE("white"), UNKNOWN("unknown");
 
+	private static final EnumLookup<BorderColor> LOOKUP = new EnumLookup<>(BorderColor.class, BorderColor::getId,
+			UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static BorderColor parseId(String id) {
-		for (BorderColor e : BorderColor.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
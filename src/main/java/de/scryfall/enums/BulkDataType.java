@@ -0,0 +1,44 @@
+package de.scryfall.enums;
+
+/**
+ * This enum contains all types of bulk data files offered by Scryfall
+ * 
+ * @see https://scryfall.com/docs/api/bulk-data
+ * @author QUE
+ *
+ */
+public enum BulkDataType {
+	ORACLE_CARDS("oracle_cards", "One card object for each Oracle ID"),
+	UNIQUE_ARTWORK("unique_artwork", "One card object for each unique artwork"),
+	DEFAULT_CARDS("default_cards", "Every card object in English or the printed language if only printed in one"),
+	ALL_CARDS("all_cards", "Every card object in every language"),
+	RULINGS("rulings", "All rulings, which are not card objects"), UNKNOWN("unknown", "Unknown bulk data");
+
+	private static final EnumLookup<BulkDataType> LOOKUP = new EnumLookup<>(BulkDataType.class, BulkDataType::getId,
+			UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
+	public static BulkDataType parseId(String id) {
+		return LOOKUP.parse(id);
+	}
+
+	private final String id;
+
+	private final String description;
+
+	private BulkDataType(String id, String description) {
+		this.id = id;
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getId() {
+		return id;
+	}
+}
@@ -0,0 +1,43 @@
+package de.scryfall.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * EnumLookup maps the ids Scryfall uses to the constants of an enum, so that
+ * parsing an id takes a single hash lookup instead of a scan over all
+ * constants. Ids that match no constant, as Scryfall introduces new ones,
+ * yield the enum's UNKNOWN constant.
+ *
+ * @author QUE
+ *
+ * @param <E> enum type
+ */
+class EnumLookup<E extends Enum<E>> {
+	private final Map<String, E> mapConstants = new HashMap<>();
+	private final E unknown;
+
+	/**
+	 * @param enumClass
+	 * @param idFunction returns the id of a constant
+	 * @param unknown    constant for ids that match no other constant
+	 */
+	EnumLookup(Class<E> enumClass, Function<E, String> idFunction, E unknown) {
+		for (E e : enumClass.getEnumConstants()) {
+			if (e != unknown) {
+				mapConstants.putIfAbsent(idFunction.apply(e), e);
+			}
+		}
+		this.unknown = unknown;
+	}
+
+	/**
+	 * @param id
+	 * @return {@code E e} with the id or the unknown constant if there is none
+	 */
+	E parse(String id) {
+		E e = mapConstants.get(id);
+		return e != null ? e : unknown;
+	}
+}
@@ -12,15 +12,16 @@ public enum Frame {
 	FRAME_1997("1997", "The updated classic frame starting from Mirage block"),
 	FRAME_2003("2003", "The “modern” Magic card frame, introduced in Eighth Edition and Mirrodin block"),
 	FRAME_2015("2015", "The holofoil-stamp Magic card frame, introduced in Magic 2015"),
-	FRAME_FUTURE("future", "The frame used on cards from the future");
+	FRAME_FUTURE("future", "The frame used on cards from the future"), UNKNOWN("unknown", "Unknown frame");
 
+	private static final EnumLookup<Frame> LOOKUP = new EnumLookup<>(Frame.class, Frame::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static Frame parseId(String id) {
-		for (Frame e : Frame.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -15,15 +15,18 @@ public enum FrameEffect {
 	SUNMOON_FC("sunmoonfc", "The sun and moon transform marks"),
 	COMPASSLAND_FC("compasslandfc", "The compass and land transform marks"),
 	ORIGINPWD_FC("originpwdfc", "The Origins and planeswalker transform marks"),
-	MOONELDRAZID_FC("mooneldrazidfc", "The moon and Eldrazi transform marks");
+	MOONELDRAZID_FC("mooneldrazidfc", "The moon and Eldrazi transform marks"),
+	UNKNOWN("unknown", "Unknown frame effect");
 
+	private static final EnumLookup<FrameEffect> LOOKUP = new EnumLookup<>(FrameEffect.class, FrameEffect::getId,
+			UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static FrameEffect parseId(String id) {
-		for (FrameEffect e : FrameEffect.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -8,15 +8,16 @@ package de.scryfall.enums;
  *
  */
 public enum Game {
-	PAPER("paper"), ARENA("arena"), MTGO("mtgo");
+	PAPER("paper"), ARENA("arena"), MTGO("mtgo"), UNKNOWN("unknown");
 
+	private static final EnumLookup<Game> LOOKUP = new EnumLookup<>(Game.class, Game::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static Game parseId(String id) {
-		for (Game e : Game.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
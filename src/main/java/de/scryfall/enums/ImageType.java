@@ -8,15 +8,17 @@ package de.scryfall.enums;
  *
  */
 public enum ImageType {
-	SMALL("small"), NORMAL("normal"), LARGE("large"), PNG("png"), ART_CROP("art_crop"), BORDER_CROP("border_crop");
+	SMALL("small"), NORMAL("normal"), LARGE("large"), PNG("png"), ART_CROP("art_crop"), BORDER_CROP("border_crop"),
+	UNKNOWN("unknown");
 
+	private static final EnumLookup<ImageType> LOOKUP = new EnumLookup<>(ImageType.class, ImageType::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static ImageType parseId(String id) {
-		for (ImageType e : ImageType.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -18,13 +18,14 @@ public enum Layout {
 	EMBLEM("emblem", "Emblem cards"), AUGMENT("augment", "Cards with Augment"), HOST("host", "Host-type cards"),
 	ADVENTURE("adventure", "Cards with an Adventure spell part"), UNKNOWN("unknown", "Unknown layout");
 
+	private static final EnumLookup<Layout> LOOKUP = new EnumLookup<>(Layout.class, Layout::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static Layout parseId(String id) {
-		for (Layout e : Layout.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		return Layout.UNKNOWN;
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
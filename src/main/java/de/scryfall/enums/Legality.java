@@ -1,5 +1,8 @@
 package de.scryfall.enums;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * This enum contains all legalities as of february 2019
  * 
@@ -8,15 +11,139 @@ package de.scryfall.enums;
  *
  */
 public enum Legality {
-	LEGAL("legal"), NOTLEGAL("not_legal"), RESTRICTED("restricted"), BANNED("banned");
+	LEGAL("legal"), NOTLEGAL("not_legal"), RESTRICTED("restricted"), BANNED("banned"), UNKNOWN("unknown");
 
-	public static Legality parseId(String id) {
-		for (Legality e : Legality.values()) {
-			if (e.getId().equals(id)) {
-				return e;
+	private static final EnumLookup<Legality> LOOKUP = new EnumLookup<>(Legality.class, Legality::getId, UNKNOWN);
+
+	private static final Legality[] VALUES = values();
+
+	/**
+	 * A legality vector packs the legalities of a card into {@code long}
+	 * words. Each {@link PlayFormat} owns {@code CODE_BITS} bits of the word
+	 * {@link #wordIndex(PlayFormat)}, starting at {@link #codeShift(PlayFormat)},
+	 * which hold the {@link #getCode()} of its legality. Formats without a
+	 * legality hold {@code 0}, as do formats whose legality is
+	 * {@link #UNKNOWN}.
+	 * <p>
+	 * The number of words follows from the number of formats and legalities,
+	 * so new constants only make the vector longer.
+	 */
+	public static final int CODE_BITS = Integer.SIZE - Integer.numberOfLeadingZeros(VALUES.length - 1);
+	public static final int FORMATS_PER_WORD = Long.SIZE / CODE_BITS;
+	public static final int VECTOR_LENGTH = (PlayFormat.values().length + FORMATS_PER_WORD - 1)
+			/ FORMATS_PER_WORD;
+
+	private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+
+	/**
+	 * @return a new {@code long[] legalityVector} without legalities
+	 */
+	public static long[] newLegalityVector() {
+		return new long[VECTOR_LENGTH];
+	}
+
+	/**
+	 * @param legalityVector replaced in place
+	 * @param playFormat
+	 * @param legality       {@code null} to remove the legality of the format
+	 */
+	public static void put(long[] legalityVector, PlayFormat playFormat, Legality legality) {
+		int shift = codeShift(playFormat);
+		long code = legality != null ? legality.getCode() : 0;
+		int word = wordIndex(playFormat);
+		legalityVector[word] = (legalityVector[word] & ~(CODE_MASK << shift)) | code << shift;
+	}
+
+	/**
+	 * @param legalityVector
+	 * @param playFormat
+	 * @return {@code Legality legality} of the format or {@code null} if it has
+	 *         none
+	 */
+	public static Legality get(long[] legalityVector, PlayFormat playFormat) {
+		int code = (int) (legalityVector[wordIndex(playFormat)] >>> codeShift(playFormat) & CODE_MASK);
+		return code != 0 ? VALUES[code - 1] : null;
+	}
+
+	/**
+	 * @param mapLegality
+	 * @return a new {@code long[] legalityVector} of the map
+	 */
+	public static long[] toLegalityVector(Map<PlayFormat, Legality> mapLegality) {
+		long[] legalityVector = newLegalityVector();
+		if (mapLegality != null) {
+			for (Map.Entry<PlayFormat, Legality> entry : mapLegality.entrySet()) {
+				put(legalityVector, entry.getKey(), entry.getValue());
+			}
+		}
+		return legalityVector;
+	}
+
+	/**
+	 * @param legalityVector
+	 * @return a new {@code Map<PlayFormat, Legality> mapLegality} of the vector
+	 */
+	public static Map<PlayFormat, Legality> fromLegalityVector(long[] legalityVector) {
+		Map<PlayFormat, Legality> mapLegality = new EnumMap<>(PlayFormat.class);
+		for (PlayFormat playFormat : PlayFormat.values()) {
+			Legality legality = get(legalityVector, playFormat);
+			if (legality != null) {
+				mapLegality.put(playFormat, legality);
 			}
 		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return mapLegality;
+	}
+
+	/**
+	 * @param legalityVector
+	 * @return {@code true} if the vector has {@link #VECTOR_LENGTH} words and
+	 *         holds valid codes of existing formats only
+	 */
+	public static boolean isLegalityVector(long[] legalityVector) {
+		if (legalityVector == null || legalityVector.length != VECTOR_LENGTH) {
+			return false;
+		}
+		for (PlayFormat playFormat : PlayFormat.values()) {
+			if ((legalityVector[wordIndex(playFormat)] >>> codeShift(playFormat) & CODE_MASK) >= VALUES.length) {
+				return false;
+			}
+		}
+		long[] ownedBits = newLegalityVector();
+		for (PlayFormat playFormat : PlayFormat.values()) {
+			ownedBits[wordIndex(playFormat)] |= CODE_MASK << codeShift(playFormat);
+		}
+		for (int i = 0; i < VECTOR_LENGTH; i++) {
+			if ((legalityVector[i] & ~ownedBits[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param playFormat
+	 * @return {@code int wordIndex} of the word holding the format in a
+	 *         legality vector
+	 */
+	public static int wordIndex(PlayFormat playFormat) {
+		return playFormat.ordinal() / FORMATS_PER_WORD;
+	}
+
+	/**
+	 * @param playFormat
+	 * @return {@code int codeShift} of the lowest bit of the format within its
+	 *         word
+	 */
+	public static int codeShift(PlayFormat playFormat) {
+		return CODE_BITS * (playFormat.ordinal() % FORMATS_PER_WORD);
+	}
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
+	public static Legality parseId(String id) {
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -28,4 +155,12 @@ public enum Legality {
 	public String getId() {
 		return id;
 	}
+
+	/**
+	 * @return {@code int code} of this legality in a legality vector,
+	 *         {@code ordinal() + 1} or {@code 0} for {@link #UNKNOWN}
+	 */
+	public int getCode() {
+		return this != UNKNOWN ? ordinal() + 1 : 0;
+	}
 }
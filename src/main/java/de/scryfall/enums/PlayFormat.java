@@ -10,15 +10,19 @@ package de.scryfall.enums;
 public enum PlayFormat {
 	STANDARD("standard"), FUTURE("future"), MODERN("modern"), LEGACY("legacy"), VINTAGE("vintage"),
 	COMMANDER("commander"), FRONTIER("frontier"), PAUPER("pauper"), PENNY("penny"), DUEL_COMMANDER("duel"),
-	OLDSCHOOL("oldschool"), ONE_VS_ONE("1v1"), BRAWL("brawl"), HISTORIC("historic"), DEFAULT("default");
+	OLDSCHOOL("oldschool"), ONE_VS_ONE("1v1"), BRAWL("brawl"), HISTORIC("historic"), PIONEER("pioneer"),
+	EXPLORER("explorer"), TIMELESS("timeless"), GLADIATOR("gladiator"), ALCHEMY("alchemy"),
+	HISTORIC_BRAWL("historicbrawl"), STANDARD_BRAWL("standardbrawl"), PAUPER_COMMANDER("paupercommander"),
+	OATHBREAKER("oathbreaker"), PREMODERN("premodern"), PREDH("predh"), DEFAULT("default"), UNKNOWN("unknown");
 
+	private static final EnumLookup<PlayFormat> LOOKUP = new EnumLookup<>(PlayFormat.class, PlayFormat::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static PlayFormat parseId(String id) {
-		for (PlayFormat e : PlayFormat.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		return PlayFormat.DEFAULT;
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -8,15 +8,16 @@ package de.scryfall.enums;
  *
  */
 public enum PriceType {
-	USD("usd"), USD_FOIL("usd_foil"), EUR("eur"), TIX("tix");
+	USD("usd"), USD_FOIL("usd_foil"), EUR("eur"), TIX("tix"), UNKNOWN("unknown");
 
+	private static final EnumLookup<PriceType> LOOKUP = new EnumLookup<>(PriceType.class, PriceType::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static PriceType parseId(String id) {
-		for (PriceType e : PriceType.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -8,15 +8,16 @@ package de.scryfall.enums;
  *
  */
 public enum Rarity {
-	COMMON("common"), UNCOMMON("uncommon"), RARE("rare"), MYTHIC("mythic");
+	COMMON("common"), UNCOMMON("uncommon"), RARE("rare"), MYTHIC("mythic"), UNKNOWN("unknown");
 
+	private static final EnumLookup<Rarity> LOOKUP = new EnumLookup<>(Rarity.class, Rarity::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static Rarity parseId(String id) {
-		for (Rarity e : Rarity.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
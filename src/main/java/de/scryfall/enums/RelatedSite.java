@@ -9,15 +9,17 @@ package de.scryfall.enums;
  */
 public enum RelatedSite {
 	TCGPLAYER("tcgplayer"), CARDMARKET("cardmarket"), CARDHOARDER("cardhoarder"), GATHERER("gatherer"),
-	TCGPLAYER_DECKS("tcgplayer_decks"), EDHREC("edhrec"), MTGTOP8("mtgtop8");
+	TCGPLAYER_DECKS("tcgplayer_decks"), EDHREC("edhrec"), MTGTOP8("mtgtop8"), UNKNOWN("unknown");
 
+	private static final EnumLookup<RelatedSite> LOOKUP = new EnumLookup<>(RelatedSite.class, RelatedSite::getId,
+			UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static RelatedSite parseId(String id) {
-		for (RelatedSite e : RelatedSite.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
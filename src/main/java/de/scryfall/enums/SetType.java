@@ -23,15 +23,17 @@ public enum SetType {
 	STARTER("starter", "A starter/introductory set (Portal, etc)"), BOX("box", "A gift box set"),
 	PROMO("promo", "A set that contains purely promotional cards"),
 	TOKEN("token", "A set made up of tokens and emblems"),
-	MEMORABILIA("memorabilia", "A set made up of gold-bordered, oversize, or trophy cards that are not legal");
+	MEMORABILIA("memorabilia", "A set made up of gold-bordered, oversize, or trophy cards that are not legal"),
+	UNKNOWN("unknown", "Unknown set type");
 
+	private static final EnumLookup<SetType> LOOKUP = new EnumLookup<>(SetType.class, SetType::getId, UNKNOWN);
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
 	public static SetType parseId(String id) {
-		for (SetType e : SetType.values()) {
-			if (e.getId().equals(id)) {
-				return e;
-			}
-		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -1,5 +1,9 @@
 package de.scryfall.enums;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * This enum contains all colors and symbols as of 23.02.2019
  * 
@@ -23,15 +27,70 @@ public enum Symbol {
 	MANA_GENERIC_2_OR_GREEN("{2/G}"), MANA_COLORED_OR_2_LIFE("{P}"), MANA_WHITE_OR_2_LIFE("{W/P}"),
 	MANA_BLUE_OR_2_LIFE("{U/P}"), MANA_BLACK_OR_2_LIFE("{B/P}"), MANA_RED_OR_2_LIFE("{R/P}"),
 	MANA_GREEN_OR_2_LIFE("{G/P}"), MANA_HALF_WHITE("{H/W}"), MANA_HALF_RED("{H/R}"), MANA_WHITE("{W}"),
-	MANA_BLUE("{U}"), MANA_BLACK("{B}"), MANA_RED("{R}"), MANA_GREEN("{G}"), MANA_COLORLESS("{C}"), MANA_SNOW("{S}");
+	MANA_BLUE("{U}"), MANA_BLACK("{B}"), MANA_RED("{R}"), MANA_GREEN("{G}"), MANA_COLORLESS("{C}"), MANA_SNOW("{S}"),
+	UNKNOWN("unknown");
 
-	public static Symbol parseId(String id) {
-		for (Symbol e : Symbol.values()) {
-			if (e.getId().equals(id)) {
-				return e;
+	private static final EnumLookup<Symbol> LOOKUP = new EnumLookup<>(Symbol.class, Symbol::getId, UNKNOWN);
+
+	/**
+	 * Mask of all five colors. A color mask has the bit {@code 1 << ordinal()}
+	 * set for each of the colors {@link #WHITE}, {@link #BLUE}, {@link #BLACK},
+	 * {@link #RED} and {@link #GREEN} it contains.
+	 */
+	public static final int COLOR_MASK_ALL = 0x1f;
+
+	private static final Symbol[] COLORS = { WHITE, BLUE, BLACK, RED, GREEN };
+
+	/**
+	 * @param colors
+	 * @return {@code int colorMask} of the colors, ignoring other symbols
+	 */
+	public static int toColorMask(Collection<Symbol> colors) {
+		int colorMask = 0;
+		if (colors != null) {
+			for (Symbol symbol : colors) {
+				colorMask |= symbol.getColorBit();
+			}
+		}
+		return colorMask;
+	}
+
+	/**
+	 * @param colors color letters such as {@code "WUB"}, case-insensitive
+	 * @return {@code int colorMask} of the colors
+	 */
+	public static int parseColorMask(String colors) {
+		int colorMask = 0;
+		for (int i = 0; i < colors.length(); i++) {
+			Symbol symbol = parseId(String.valueOf(Character.toUpperCase(colors.charAt(i))));
+			if (symbol.getColorBit() == 0) {
+				throw new IllegalArgumentException("Not a color: " + colors.charAt(i));
 			}
+			colorMask |= symbol.getColorBit();
 		}
-		throw new IllegalArgumentException("Couldn't find an enum matching this value: " + id);
+		return colorMask;
+	}
+
+	/**
+	 * @param colorMask
+	 * @return {@code Set<Symbol> colors} of the mask in WUBRG order
+	 */
+	public static Set<Symbol> fromColorMask(int colorMask) {
+		Set<Symbol> colors = EnumSet.noneOf(Symbol.class);
+		for (Symbol symbol : COLORS) {
+			if ((colorMask & symbol.getColorBit()) != 0) {
+				colors.add(symbol);
+			}
+		}
+		return colors;
+	}
+
+	/**
+	 * @param id
+	 * @return the constant with the id or {@link #UNKNOWN} if there is none
+	 */
+	public static Symbol parseId(String id) {
+		return LOOKUP.parse(id);
 	}
 
 	private final String id;
@@ -43,4 +102,12 @@ public enum Symbol {
 	public String getId() {
 		return id;
 	}
+
+	/**
+	 * @return {@code int colorBit} of this symbol in a color mask, {@code 0} if
+	 *         it is not a color
+	 */
+	public int getColorBit() {
+		return ordinal() < COLORS.length ? 1 << ordinal() : 0;
+	}
 }
@@ -0,0 +1,155 @@
+package de.scryfall;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local stand-in for Scryfall that answers from scripted responses, so that
+ * failures can be injected. Every path answers with its queued responses in
+ * order and repeats the last one once the queue is down to it.
+ *
+ * @author QUE
+ *
+ */
+class FaultServer implements AutoCloseable {
+	private final HttpServer server;
+	private final Map<String, Deque<Response>> mapResponses = new HashMap<>();
+	private final List<HttpExchange> listRequests = Collections.synchronizedList(new ArrayList<>());
+
+	static class Response {
+		private final int status;
+		private final byte[] body;
+		private final Map<String, String> mapHeaders = new HashMap<>();
+		private int truncateAfter = -1;
+		private boolean ranges;
+
+		Response(int status, String body) {
+			this(status, body.getBytes(StandardCharsets.UTF_8));
+		}
+
+		Response(int status, byte[] body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		Response header(String name, String value) {
+			mapHeaders.put(name, value);
+			return this;
+		}
+
+		/**
+		 * Announces the whole body, but drops the connection after the given
+		 * number of bytes.
+		 */
+		Response truncateAfter(int bytes) {
+			this.truncateAfter = bytes;
+			return this;
+		}
+
+		/**
+		 * Answers Range requests with the requested part of the body.
+		 */
+		Response ranges() {
+			this.ranges = true;
+			return this;
+		}
+	}
+
+	FaultServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "fault-server");
+			thread.setDaemon(true);
+			return thread;
+		}));
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	String url(String path) {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+	}
+
+	synchronized FaultServer enqueue(String path, Response... responses) {
+		Deque<Response> queue = mapResponses.computeIfAbsent(path, key -> new ArrayDeque<>());
+		Collections.addAll(queue, responses);
+		return this;
+	}
+
+	/**
+	 * @return number of requests received for the path
+	 */
+	int hits(String path) {
+		return requests(path).size();
+	}
+
+	List<HttpExchange> requests(String path) {
+		List<HttpExchange> listMatches = new ArrayList<>();
+		synchronized (listRequests) {
+			for (HttpExchange exchange : listRequests) {
+				if (exchange.getRequestURI().getPath().equals(path)) {
+					listMatches.add(exchange);
+				}
+			}
+		}
+		return listMatches;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		listRequests.add(exchange);
+		Response response;
+		synchronized (this) {
+			Deque<Response> queue = mapResponses.get(exchange.getRequestURI().getPath());
+			response = queue == null ? null : queue.size() > 1 ? queue.poll() : queue.peek();
+		}
+		try {
+			exchange.getRequestBody().readAllBytes();
+			if (response == null) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			byte[] body = response.body;
+			int status = response.status;
+			String range = exchange.getRequestHeaders().getFirst("Range");
+			if (response.ranges && range != null) {
+				int from = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+				exchange.getResponseHeaders().set("Content-Range",
+						"bytes " + from + "-" + (body.length - 1) + "/" + body.length);
+				body = Arrays.copyOfRange(body, from, body.length);
+				status = 206;
+			}
+			response.mapHeaders.forEach(exchange.getResponseHeaders()::set);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+			OutputStream out = exchange.getResponseBody();
+			if (response.truncateAfter >= 0) {
+				out.write(body, 0, response.truncateAfter);
+				out.flush();
+				// closing with bytes missing drops the connection
+				return;
+			}
+			out.write(body);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
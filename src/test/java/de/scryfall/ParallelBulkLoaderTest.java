@@ -0,0 +1,66 @@
+package de.scryfall;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelBulkLoaderTest {
+	/**
+	 * Names as they appear in the JSON, each containing characters that delimit
+	 * JSON values outside of strings.
+	 */
+	private static final String[] JSON_NAMES = { "Quote \\\" inside", "Comma, inside", "Brackets ] } [ {",
+			"Ends with a backslash \\\\", "Escaped quote before comma \\\",", "\\\\\\\"],{" };
+
+	private static final String[] NAMES = { "Quote \" inside", "Comma, inside", "Brackets ] } [ {",
+			"Ends with a backslash \\", "Escaped quote before comma \",", "\\\"],{" };
+
+	private static Path writeBulkFile(Path directory, int copies) throws IOException {
+		StringBuilder json = new StringBuilder("[\n");
+		int number = 0;
+		for (int copy = 0; copy < copies; copy++) {
+			for (String name : JSON_NAMES) {
+				json.append(number > 0 ? ",\n" : "").append("{\"object\":\"card\",\"id\":\"00000000-0000-0000-0000-")
+						.append(String.format("%012d", number++)).append("\",\"name\":\"").append(name)
+						.append("\",\"keywords\":[\"a,b\",\"[c]\"],\"legalities\":{\"modern\":\"legal\"}}");
+			}
+		}
+		Path file = directory.resolve("cards.json");
+		Files.write(file, json.append("\n]").toString().getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static List<String> names(List<MtgCardInformation> listCards) {
+		List<String> listNames = new ArrayList<>();
+		for (MtgCardInformation card : listCards) {
+			listNames.add(card.getName());
+		}
+		return listNames;
+	}
+
+	@Test
+	void splitsOnlyBetweenCards(@TempDir Path directory) throws IOException {
+		Path file = writeBulkFile(directory, 20);
+		List<String> listExpected = new ArrayList<>();
+		for (int copy = 0; copy < 20; copy++) {
+			listExpected.addAll(List.of(NAMES));
+		}
+		// a chunk size of one byte splits at every comma between two cards
+		for (int chunkSize : new int[] { 1, 100, 1 << 20 }) {
+			for (boolean lazy : new boolean[] { false, true }) {
+				List<MtgCardInformation> listCards = new ParallelBulkLoader(file, ForkJoinPool.commonPool(),
+						chunkSize, lazy).load();
+				assertEquals(listExpected, names(listCards), "chunkSize " + chunkSize + ", lazy " + lazy);
+			}
+		}
+	}
+}
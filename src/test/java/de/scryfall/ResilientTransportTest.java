@@ -0,0 +1,146 @@
+package de.scryfall;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.scryfall.FaultServer.Response;
+
+class ResilientTransportTest {
+	private static final String CARD = "{\"object\":\"card\",\"id\":\"00000000-0000-0000-0000-000000000001\","
+			+ "\"name\":\"Opt\"}";
+
+	private FaultServer server;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = new FaultServer();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.close();
+	}
+
+	private static ResilientTransport transport(int maxRetries, CircuitBreaker circuitBreaker) {
+		return new ResilientTransport(new HttpTransport(), maxRetries, Duration.ofMillis(1), Duration.ofMillis(5),
+				circuitBreaker, new RateLimiter(1000, 100));
+	}
+
+	private static String read(InputStream body) throws IOException {
+		try (body) {
+			return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	void retriesServerErrorsUntilSuccess() throws IOException {
+		server.enqueue("/card", new Response(503, ""), new Response(500, ""), new Response(200, CARD));
+		ResilientTransport transport = transport(3, new CircuitBreaker());
+
+		assertEquals(CARD, read(transport.get(server.url("/card"))));
+		assertEquals(3, server.hits("/card"));
+	}
+
+	@Test
+	void retriesAsynchronousRequests() {
+		server.enqueue("/card", new Response(502, ""), new Response(200, CARD));
+		ResilientTransport transport = transport(3, new CircuitBreaker());
+
+		assertEquals(CARD, transport.getAsync(server.url("/card"), ResilientTransportTest::read, Runnable::run)
+				.join());
+		assertEquals(2, server.hits("/card"));
+	}
+
+	@Test
+	void givesUpAfterMaxRetries() {
+		server.enqueue("/card", new Response(503, ""));
+		ResilientTransport transport = transport(2, new CircuitBreaker());
+
+		ScryfallHttpException e = assertThrows(ScryfallHttpException.class,
+				() -> transport.get(server.url("/card")));
+		assertEquals(503, e.getStatusCode());
+		assertEquals(3, server.hits("/card"));
+	}
+
+	@Test
+	void doesNotRetryClientErrors() {
+		server.enqueue("/card", new Response(404, "{\"object\":\"error\"}"));
+		ResilientTransport transport = transport(3, new CircuitBreaker());
+
+		assertThrows(ScryfallHttpException.class, () -> transport.get(server.url("/card")));
+		assertEquals(1, server.hits("/card"));
+	}
+
+	@Test
+	void waitsAsLongAsRetryAfterAsks() throws IOException {
+		server.enqueue("/card", new Response(429, "").header("Retry-After", "1"), new Response(200, CARD));
+		ResilientTransport transport = transport(1, new CircuitBreaker());
+
+		long start = System.nanoTime();
+		assertEquals(CARD, read(transport.get(server.url("/card"))));
+		assertTrue(System.nanoTime() - start >= Duration.ofSeconds(1).toNanos());
+		assertEquals(2, server.hits("/card"));
+	}
+
+	@Test
+	void retriesBodiesCutOffWhileReading() throws IOException {
+		server.enqueue("/card", new Response(200, CARD).truncateAfter(10), new Response(200, CARD));
+		ResilientTransport transport = transport(1, new CircuitBreaker());
+
+		assertEquals(CARD, transport.get(server.url("/card"), ResilientTransportTest::read));
+		assertEquals(2, server.hits("/card"));
+	}
+
+	@Test
+	void onlyRetriesPostRequestsThatAreReads() {
+		server.enqueue("/cards/collection", new Response(503, ""), new Response(200, "{}"));
+		server.enqueue("/other", new Response(503, ""), new Response(200, "{}"));
+		ResilientTransport transport = transport(1, new CircuitBreaker());
+
+		assertEquals("{}", transport.postAsync(server.url("/cards/collection"), "{}", ResilientTransportTest::read,
+				Runnable::run).join());
+		CompletionException e = assertThrows(CompletionException.class,
+				() -> transport.postAsync(server.url("/other"), "{}").join());
+		assertTrue(e.getCause() instanceof ScryfallHttpException);
+		assertEquals(1, server.hits("/other"));
+	}
+
+	@Test
+	void circuitBreakerOpensAndRecoversThroughHalfOpen() throws Exception {
+		server.enqueue("/card", new Response(503, ""), new Response(503, ""), new Response(503, ""),
+				new Response(200, CARD));
+		CircuitBreaker circuitBreaker = new CircuitBreaker(2, Duration.ofMillis(200));
+		ResilientTransport transport = transport(0, circuitBreaker);
+
+		assertThrows(ScryfallHttpException.class, () -> transport.get(server.url("/card")));
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertThrows(ScryfallHttpException.class, () -> transport.get(server.url("/card")));
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		// rejected without reaching the server
+		assertThrows(CircuitOpenException.class, () -> transport.get(server.url("/card")));
+		assertEquals(2, server.hits("/card"));
+
+		// a failed trial opens the breaker again
+		Thread.sleep(250);
+		assertThrows(ScryfallHttpException.class, () -> transport.get(server.url("/card")));
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		// a successful trial closes it
+		Thread.sleep(250);
+		assertEquals(CARD, read(transport.get(server.url("/card"))));
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertEquals(4, server.hits("/card"));
+	}
+}
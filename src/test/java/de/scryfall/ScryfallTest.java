@@ -0,0 +1,124 @@
+package de.scryfall;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+
+import de.scryfall.FaultServer.Response;
+
+class ScryfallTest {
+	private FaultServer server;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new FaultServer();
+		Scryfall.setRateLimiter(new RateLimiter(1000, 100));
+		Scryfall.setTransport(new ResilientTransport(new HttpTransport(), 1, Duration.ofMillis(1),
+				Duration.ofMillis(5), new CircuitBreaker(), null));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+		Scryfall.setTransport(new ResilientTransport(new HttpTransport()));
+		Scryfall.setRateLimiter(new RateLimiter());
+		Scryfall.setPagePrefetch(1);
+	}
+
+	private static String card(int number) {
+		return "{\"object\":\"card\",\"id\":\"00000000-0000-0000-0000-" + String.format("%012d", number)
+				+ "\",\"name\":\"Card " + number + "\"}";
+	}
+
+	private String page(int from, int to, String nextPath) {
+		StringBuilder page = new StringBuilder("{\"object\":\"list\",\"has_more\":").append(nextPath != null);
+		if (nextPath != null) {
+			page.append(",\"next_page\":\"").append(server.url(nextPath)).append('"');
+		}
+		page.append(",\"data\":[");
+		for (int number = from; number <= to; number++) {
+			page.append(number > from ? "," : "").append(card(number));
+		}
+		return page.append("]}").toString();
+	}
+
+	private static List<String> names(List<MtgCardInformation> listCards) {
+		List<String> listNames = new ArrayList<>();
+		for (MtgCardInformation card : listCards) {
+			listNames.add(card.getName());
+		}
+		return listNames;
+	}
+
+	private MtgSetInformation set(String searchPath) {
+		JsonObject jObject = new JsonObject();
+		jObject.addProperty("object", "set");
+		jObject.addProperty("code", "tst");
+		jObject.addProperty("search_uri", server.url(searchPath));
+		return new MtgSetInformation(jObject);
+	}
+
+	@Test
+	void resumesPaginationAtTheFailedPage() throws Exception {
+		for (int pagePrefetch : new int[] { 0, 1, 3 }) {
+			String prefix = "/p" + pagePrefetch;
+			server.enqueue(prefix + "/1", new Response(200, page(1, 2, prefix + "/2")));
+			// outlasts the single retry, then recovers
+			server.enqueue(prefix + "/2", new Response(503, ""), new Response(503, ""),
+					new Response(200, page(3, 4, prefix + "/3")));
+			server.enqueue(prefix + "/3", new Response(200, page(5, 5, null)));
+			Scryfall.setPagePrefetch(pagePrefetch);
+
+			PaginationException e = assertThrows(PaginationException.class,
+					() -> Scryfall.getListCardsBySet(set(prefix + "/1")));
+			assertEquals(server.url(prefix + "/2"), e.getFailedPage());
+			assertEquals(List.of("Card 1", "Card 2"), names(e.getListCards()));
+
+			List<MtgCardInformation> listCards = Scryfall.resumeListCards(e);
+			assertEquals(List.of("Card 1", "Card 2", "Card 3", "Card 4", "Card 5"), names(listCards));
+			assertEquals(1, server.hits(prefix + "/1"));
+			assertEquals(3, server.hits(prefix + "/2"));
+			assertEquals(1, server.hits(prefix + "/3"));
+		}
+	}
+
+	@Test
+	void resumesADownloadCutOffInTheMiddle(@TempDir Path directory) throws IOException {
+		byte[] file = new byte[100_000];
+		for (int i = 0; i < file.length; i++) {
+			file[i] = (byte) ('a' + i % 26);
+		}
+		server.enqueue("/file.json", new Response(200, file).truncateAfter(40_000),
+				new Response(200, file).ranges());
+		JsonObject jObject = new JsonObject();
+		jObject.addProperty("download_uri", server.url("/file.json"));
+		Path target = directory.resolve("cards.json");
+
+		Scryfall.downloadBulkData(new BulkDataInformation(jObject), target);
+
+		assertArrayEquals(file, Files.readAllBytes(target));
+		assertEquals(2, server.hits("/file.json"));
+		String range = server.requests("/file.json").get(1).getRequestHeaders().getFirst("Range");
+		assertFalse(range == null || range.equals("bytes=0-"), range);
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(List.of(target), files.collect(Collectors.toList()));
+		}
+	}
+}